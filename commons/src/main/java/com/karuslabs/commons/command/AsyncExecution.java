@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command;
+
+import com.karuslabs.commons.command.dispatcher.Exceptions;
+
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+
+import java.util.concurrent.Executor;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.Plugin;
+
+
+@FunctionalInterface
+public interface AsyncExecution<T> {
+    
+    static Executor main(Plugin plugin) {
+        return task -> {
+            var server = plugin.getServer();
+            if (server.isPrimaryThread()) {
+                task.run();
+                
+            } else {
+                server.getScheduler().runTask(plugin, task);
+            }
+        };
+    }
+    
+    static void report(CommandSender sender, Exception exception, Executor main) {
+        if (exception instanceof CommandSyntaxException) {
+            main.execute(() -> Exceptions.report(sender, (CommandSyntaxException) exception));
+            
+        } else {
+            main.execute(() -> Exceptions.report(sender, exception));
+        }
+    }
+    
+    
+    void execute(T source, OptionalContext<T> context, Executor main) throws Exception;
+    
+    
+    default Execution<T> async(Executor executor, Executor main) {
+        return (source, context) -> executor.execute(() -> {
+            try {
+                execute(source, context, main);
+                
+            } catch (Exception e) {
+                if (source instanceof CommandSender) {
+                    report((CommandSender) source, e, main);
+                    
+                } else {
+                    var thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        });
+    }
+    
+}
@@ -0,0 +1,168 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.dispatcher;
+
+import com.mojang.brigadier.Message;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.minecraft.server.v1_16_R3.CommandListenerWrapper;
+
+import org.bukkit.command.CommandSender;
+
+
+public final class AsyncSuggestions {
+    
+    private final Executor executor;
+    private final Executor deadline;
+    private final ConcurrentMap<CommandSender, Request> requests = new ConcurrentHashMap<>();
+    
+    
+    public AsyncSuggestions(Executor executor, long deadline, TimeUnit unit) {
+        if (deadline <= 0) {
+            throw new IllegalArgumentException("Deadline must be positive, was " + deadline);
+        }
+        
+        this.executor = executor;
+        this.deadline = CompletableFuture.delayedExecutor(deadline, unit);
+    }
+    
+    
+    CompletableFuture<Suggestions> suggest(CommandContext<CommandListenerWrapper> context, SuggestionsBuilder builder, SuggestionProvider<CommandListenerWrapper> provider) {
+        var sender = context.getSource().getBukkitSender();
+        var input = context.getInput();
+        var future = new CompletableFuture<Suggestions>();
+        
+        var superseded = new Request[1];
+        var request = requests.compute(sender, (key, current) -> {
+            if (current == null || !current.input.equals(input)) {
+                superseded[0] = current;
+                current = new Request(input);
+            }
+            
+            current.pending.add(future);
+            return current;
+        });
+        
+        // Cancelled outside of compute(...) since completion re-enters the map
+        if (superseded[0] != null) {
+            superseded[0].cancel();
+        }
+        
+        future.whenComplete((suggestions, exception) -> requests.computeIfPresent(sender, (key, current) -> {
+            return current == request && current.pending.remove(future) && current.pending.isEmpty() ? null : current;
+        }));
+        
+        var partial = new Partial(builder);
+        executor.execute(() -> run(context, partial, provider, future));
+        deadline.execute(() -> future.complete(partial.build()));
+        
+        return future;
+    }
+    
+    void run(CommandContext<CommandListenerWrapper> context, Partial builder, SuggestionProvider<CommandListenerWrapper> provider, CompletableFuture<Suggestions> future) {
+        if (future.isDone()) {
+            return;
+        }
+        
+        try {
+            var suggestions = provider.getSuggestions(context, builder);
+            future.whenComplete((result, exception) -> suggestions.cancel(true));
+            suggestions.whenComplete((result, exception) -> future.complete(exception == null ? result : builder.build()));
+            
+        } catch (Exception e) {
+            future.complete(builder.build());
+        }
+    }
+    
+    
+    int pending() {
+        var pending = 0;
+        for (var request : requests.values()) {
+            pending += request.pending.size();
+        }
+        return pending;
+    }
+    
+    
+    static final class Request {
+        
+        final String input;
+        final List<CompletableFuture<Suggestions>> pending = new ArrayList<>();
+        
+        Request(String input) {
+            this.input = input;
+        }
+        
+        void cancel() {
+            for (var future : List.copyOf(pending)) {
+                future.cancel(true);
+            }
+        }
+        
+    }
+    
+    // The deadline builds the partial suggestions while the provider may still be adding to the builder on another thread
+    static final class Partial extends SuggestionsBuilder {
+        
+        Partial(SuggestionsBuilder builder) {
+            super(builder.getInput(), builder.getStart());
+        }
+        
+        @Override
+        public synchronized Suggestions build() {
+            return super.build();
+        }
+        
+        @Override
+        public synchronized SuggestionsBuilder suggest(String text) {
+            return super.suggest(text);
+        }
+        
+        @Override
+        public synchronized SuggestionsBuilder suggest(String text, Message tooltip) {
+            return super.suggest(text, tooltip);
+        }
+        
+        @Override
+        public synchronized SuggestionsBuilder suggest(int value) {
+            return super.suggest(value);
+        }
+        
+        @Override
+        public synchronized SuggestionsBuilder suggest(int value, Message tooltip) {
+            return super.suggest(value, tooltip);
+        }
+        
+        @Override
+        public synchronized SuggestionsBuilder add(SuggestionsBuilder other) {
+            return super.add(other);
+        }
+        
+    }
+    
+}
@@ -23,13 +23,17 @@
  */
 package com.karuslabs.commons.command.dispatcher;
 
+import com.karuslabs.commons.command.Commands;
 import com.karuslabs.commons.command.tree.nodes.Root;
 import com.karuslabs.commons.command.tree.TreeWalker;
 import com.karuslabs.commons.command.tree.nodes.Literal;
 
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.tree.CommandNode;
 
+import java.util.ArrayList;
 import java.util.Map;
 
 import net.minecraft.server.v1_16_R3.*;
@@ -40,9 +44,12 @@ import org.bukkit.craftbukkit.v1_16_R3.command.CraftCommandMap;
 import org.bukkit.Server;
 import org.bukkit.command.CommandSender;
 import org.bukkit.event.*;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.server.ServerLoadEvent;
 import org.bukkit.plugin.Plugin;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 
 public class Dispatcher extends CommandDispatcher<CommandSender> implements Listener {    
     
@@ -50,6 +57,8 @@ public class Dispatcher extends CommandDispatcher<CommandSender> implements List
     private Root root;
     CommandDispatcher<CommandListenerWrapper> dispatcher;
     TreeWalker<CommandSender, CommandListenerWrapper> walker;
+    SpigotMapper mapper;
+    private volatile @Nullable ParseCache cache;
 
     
     public static Dispatcher of(Plugin plugin) {
@@ -72,7 +81,8 @@ public class Dispatcher extends CommandDispatcher<CommandSender> implements List
         this.root = root;
         this.server = ((CraftServer) server).getServer();
         this.dispatcher = this.server.getCommandDispatcher().a();
-        this.walker = new TreeWalker<>(new SpigotMapper(this));
+        this.mapper = new SpigotMapper(this);
+        this.walker = new TreeWalker<>(mapper);
     }
     
     
@@ -90,8 +100,53 @@ public class Dispatcher extends CommandDispatcher<CommandSender> implements List
     }
       
     
+    @Override
+    public int execute(StringReader input, CommandSender source) throws CommandSyntaxException {
+        var cache = this.cache;
+        return cache == null ? super.execute(input, source) : execute(cache.parse(this, input, source));
+    }
+    
+    
+    public void cache(@Nullable ParseCache cache) {
+        this.cache = cache;
+    }
+    
+    public @Nullable ParseCache cache() {
+        return cache;
+    }
+    
+    
+    // Suggestions are computed off the main thread once set, requirements, Types and SuggestionProviders
+    // that call into the Bukkit API must then be thread-safe
+    public void suggestions(@Nullable AsyncSuggestions suggestions) {
+        mapper.suggestions = suggestions;
+    }
+    
+    public @Nullable AsyncSuggestions suggestions() {
+        return mapper.suggestions;
+    }
+    
+    
     public void update() {
-        walker.prune(dispatcher.getRoot(), getRoot().getChildren());
+        var changes = getRoot().changes();
+        var root = dispatcher.getRoot();
+        var commands = new ArrayList<CommandNode<CommandSender>>(changes.size());
+        for (var name : changes) {
+            var command = getRoot().getChild(name);
+            if (command == null) {
+                Commands.remove(root, name);
+                
+            } else {
+                commands.add(command);
+            }
+        }
+        
+        walker.prune(root, commands);
+        // Nested removals also detach memoized subtrees, not only top-level removals
+        if (!changes.isEmpty()) {
+            walker.retain(getRoot().getChildren());
+        }
+        
         for (var player : server.server.getOnlinePlayers()) {
             player.updateCommands();
         }
@@ -100,8 +155,15 @@ public class Dispatcher extends CommandDispatcher<CommandSender> implements List
     
     @EventHandler
     protected void update(ServerLoadEvent event) {
+        getRoot().changes();
         dispatcher = server.getCommandDispatcher().a();
         walker.prune(dispatcher.getRoot(), getRoot().getChildren());
+        walker.retain(getRoot().getChildren());
+    }
+    
+    @EventHandler
+    protected void quit(PlayerQuitEvent event) {
+        mapper.forget(event.getPlayer());
     }
     
     
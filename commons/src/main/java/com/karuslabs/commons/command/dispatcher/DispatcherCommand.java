@@ -35,6 +35,9 @@ import org.bukkit.plugin.Plugin;
 
 public class DispatcherCommand extends Command implements PluginIdentifiableCommand {
     
+    static final int RETAINED = 256;
+    static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(RETAINED));
+    
     Plugin plugin;
     CommandDispatcher<CommandSender> dispatcher;
     
@@ -53,9 +56,7 @@ public class DispatcherCommand extends Command implements PluginIdentifiableComm
         }
         
         var reader = new StringReader(join(label, arguments));
-        if (reader.canRead() && reader.peek() == '/') {
-            reader.skip();
-        }
+        reader.setCursor(1);
         
         try {
             dispatcher.execute(reader, sender);
@@ -70,13 +71,26 @@ public class DispatcherCommand extends Command implements PluginIdentifiableComm
         return true;
     }
     
-    private String join(String name, String[] arguments) {
-        String command =  "/" + name;
-        if (arguments.length > 0) {
-            command += " " + String.join(" ", arguments);
+    static String join(String name, String[] arguments) {
+        var length = name.length() + 1;
+        for (var argument : arguments) {
+            length += argument.length() + 1;
+        }
+        
+        var builder = BUILDER.get();
+        if (builder.capacity() > RETAINED && length <= RETAINED) {
+            builder = new StringBuilder(RETAINED);
+            BUILDER.set(builder);
+        }
+        
+        builder.setLength(0);
+        builder.ensureCapacity(length);
+        builder.append('/').append(name);
+        for (var argument : arguments) {
+            builder.append(' ').append(argument);
         }
         
-        return command;
+        return builder.toString();
     }
     
 
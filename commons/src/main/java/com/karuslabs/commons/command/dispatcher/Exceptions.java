@@ -38,13 +38,13 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.minecart.CommandMinecart;
 
 
-@Static class Exceptions {
+public @Static class Exceptions {
     
     private static final Object[] EMPTY = new Object[0];
     
     
     // Source: net.minecraft.server.CommandDispatcher #line: 188
-    static void report(CommandSender sender, CommandSyntaxException exception) {
+    public static void report(CommandSender sender, CommandSyntaxException exception) {
         var listener = from(sender);
         
         listener.sendFailureMessage(ChatComponentUtils.a(exception.getRawMessage()));
@@ -77,7 +77,7 @@ import org.bukkit.entity.minecart.CommandMinecart;
     
     
     // Source: net.minecraft.server.CommandDispatcher #line: 213
-    static void report(CommandSender sender, Exception exception) {
+    public static void report(CommandSender sender, Exception exception) {
         var listener = from(sender);
         
         var message = exception.getMessage();
@@ -0,0 +1,190 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.dispatcher;
+
+import com.karuslabs.commons.command.tree.nodes.*;
+import com.karuslabs.commons.command.types.Type;
+
+import com.mojang.brigadier.*;
+import com.mojang.brigadier.context.CommandContextBuilder;
+import com.mojang.brigadier.tree.*;
+
+import java.util.*;
+import java.util.function.Function;
+
+import org.bukkit.command.*;
+
+
+public final class ParseCache {
+    
+    public static Object fingerprint(CommandSender sender) {
+        return sender instanceof BlockCommandSender ? BlockCommandSender.class : sender;
+    }
+    
+    static long version(CommandNode<CommandSender> root) {
+        // Root.version() only covers the top-level commands, nested mutations are tracked by Nodes.modifications()
+        return (root instanceof Root ? ((Root) root).version() : 0) + Nodes.modifications();
+    }
+    
+    static boolean permitted(CommandContextBuilder<CommandSender> context, CommandSender sender) {
+        for (var current = context; current != null; current = current.getChild()) {
+            for (var node : current.getNodes()) {
+                if (!node.getNode().canUse(sender)) {
+                    return false;
+                }
+            }
+        }
+        
+        return true;
+    }
+    
+    static boolean resolved(ParseResults<CommandSender> results) {
+        return results.getExceptions().isEmpty() && !results.getReader().canRead() && results.getContext().getLastChild().getCommand() != null;
+    }
+    
+    // Types may resolve arguments to server state, i.e. players and worlds, that goes stale after parsing
+    static boolean cacheable(CommandContextBuilder<CommandSender> context) {
+        for (var current = context; current != null; current = current.getChild()) {
+            for (var node : current.getNodes()) {
+                var command = node.getNode();
+                if (command instanceof ArgumentCommandNode<?, ?>) {
+                    var type = ((ArgumentCommandNode<?, ?>) command).getType();
+                    if (type instanceof Type<?> && !((Type<?>) type).cacheable()) {
+                        return false;
+                    }
+                }
+            }
+        }
+        
+        return true;
+    }
+    
+    
+    private final Function<CommandSender, Object> fingerprint;
+    private final Map<Key, ParseResults<CommandSender>> results;
+    private long version = -1;
+    
+    
+    public ParseCache(int capacity) {
+        this(capacity, ParseCache::fingerprint);
+    }
+    
+    public ParseCache(int capacity, Function<CommandSender, Object> fingerprint) {
+        this.fingerprint = fingerprint;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ParseResults<CommandSender>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+    
+    
+    public ParseResults<CommandSender> parse(CommandDispatcher<CommandSender> dispatcher, ImmutableStringReader input, CommandSender sender) {
+        var version = version(dispatcher.getRoot());
+        var key = new Key(input.getString(), input.getCursor(), fingerprint.apply(sender));
+        
+        ParseResults<CommandSender> cached;
+        synchronized (results) {
+            if (this.version != version) {
+                results.clear();
+                this.version = version;
+            }
+            cached = results.get(key);
+        }
+        
+        // Requirements are only checked while parsing, a sender may have lost a permission since the result was cached
+        if (cached == null || !permitted(cached.getContext(), sender)) {
+            var reader = new StringReader(input.getString());
+            reader.setCursor(input.getCursor());
+            
+            cached = dispatcher.parse(reader, sender);
+            synchronized (results) {
+                if (this.version == version) {
+                    // Failed parses are not cached since a sender may since have gained the permissions required by a command
+                    if (resolved(cached) && cacheable(cached.getContext())) {
+                        results.put(key, cached);
+                        
+                    } else {
+                        results.remove(key);
+                    }
+                }
+            }
+            return cached;
+        }
+        
+        var context = cached.getContext();
+        return context.getSource() == sender ? cached : new ParseResults<>(context.copy().withSource(sender), cached.getReader(), cached.getExceptions());
+    }
+    
+    
+    public void clear() {
+        synchronized (results) {
+            results.clear();
+        }
+    }
+    
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+    
+    
+    static final class Key {
+        
+        final String input;
+        final int cursor;
+        final Object fingerprint;
+        private final int hash;
+        
+        Key(String input, int cursor, Object fingerprint) {
+            this.input = input;
+            this.cursor = cursor;
+            this.fingerprint = fingerprint;
+            this.hash = 31 * (31 * input.hashCode() + cursor) + fingerprint.hashCode();
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            
+            var key = (Key) other;
+            return cursor == key.cursor && input.equals(key.input) && fingerprint.equals(key.fingerprint);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+        
+    }
+    
+}
@@ -28,6 +28,7 @@ import com.karuslabs.commons.command.tree.Mapper;
 
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.tree.*;
 
@@ -55,7 +56,16 @@ class SpigotMapper extends Mapper<CommandSender, CommandListenerWrapper> {
     }
     
     
+    static final int SENDERS = 128;
+    
     private CommandDispatcher<CommandSender> dispatcher;
+    volatile @Nullable AsyncSuggestions suggestions;
+    private final Map<CommandSender, Reparsed> reparsed = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CommandSender, Reparsed> eldest) {
+            return size() > SENDERS;
+        }
+    };
     
     
     SpigotMapper(CommandDispatcher<CommandSender> dispatcher) {
@@ -99,27 +109,63 @@ class SpigotMapper extends Mapper<CommandSender, CommandListenerWrapper> {
     }
     
     SuggestionProvider<CommandListenerWrapper> reparse(Type<?> type) {
-        return (context, suggestions) -> {
-            var sender = context.getSource().getBukkitSender();
-            
-            var input = context.getInput();
-            input = input.length() <= 1 ? "" : input.substring(1);
-            
-            var reparsed = dispatcher.parse(input, sender).getContext().build(context.getInput());
-            return type.listSuggestions(reparsed, suggestions);
-        };
+        return async((context, suggestions) -> type.listSuggestions(reparse(context), suggestions));
     }
     
     SuggestionProvider<CommandListenerWrapper> reparse(SuggestionProvider<CommandSender> suggestor) {
-        return (context, suggestions) -> {
-            var sender = context.getSource().getBukkitSender();
-            
-            var input = context.getInput();
-            input = input.length() <= 1 ? "" : input.substring(1);
-            
-            var reparsed = dispatcher.parse(input, sender).getContext().build(context.getInput());
-            return suggestor.getSuggestions(reparsed, suggestions);
+        return async((context, suggestions) -> suggestor.getSuggestions(reparse(context), suggestions));
+    }
+    
+    // When AsyncSuggestions is set, the reparse, and hence the requirements and types it evaluates, also
+    // run on its executor rather than the main thread
+    SuggestionProvider<CommandListenerWrapper> async(SuggestionProvider<CommandListenerWrapper> provider) {
+        return (context, builder) -> {
+            var suggestions = this.suggestions;
+            return suggestions == null ? provider.getSuggestions(context, builder) : suggestions.suggest(context, builder, provider);
         };
     }
     
+    CommandContext<CommandSender> reparse(CommandContext<CommandListenerWrapper> context) {
+        var sender = context.getSource().getBukkitSender();
+        var input = context.getInput();
+        var version = ParseCache.version(dispatcher.getRoot());
+        
+        Reparsed cached;
+        synchronized (reparsed) {
+            cached = reparsed.get(sender);
+        }
+        
+        if (cached != null && cached.version == version && cached.input.equals(input)) {
+            return cached.context;
+        }
+        
+        var parsed = dispatcher.parse(input.length() <= 1 ? "" : input.substring(1), sender).getContext().build(input);
+        synchronized (reparsed) {
+            reparsed.put(sender, new Reparsed(input, version, parsed));
+        }
+        
+        return parsed;
+    }
+    
+    void forget(CommandSender sender) {
+        synchronized (reparsed) {
+            reparsed.remove(sender);
+        }
+    }
+    
+    
+    static final class Reparsed {
+        
+        final String input;
+        final long version;
+        final CommandContext<CommandSender> context;
+        
+        Reparsed(String input, long version, CommandContext<CommandSender> context) {
+            this.input = input;
+            this.version = version;
+            this.context = context;
+        }
+        
+    }
+    
 }
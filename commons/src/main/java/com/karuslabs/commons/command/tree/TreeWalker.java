@@ -24,7 +24,7 @@
 package com.karuslabs.commons.command.tree;
 
 import com.karuslabs.commons.command.Commands;
-import com.karuslabs.commons.command.tree.nodes.Mutable;
+import com.karuslabs.commons.command.tree.nodes.*;
 
 import com.mojang.brigadier.tree.*;
 
@@ -38,11 +38,13 @@ public class TreeWalker<T, R> {
     
     private final Mapper<T, R> mapper;
     protected final Map<CommandNode<T>, CommandNode<R>> mappings;
+    protected final Map<CommandNode<T>, Memo<R>> memoized;
     
     
     public TreeWalker(Mapper<T, R> mapper) {
         this.mapper = mapper;
         this.mappings = new IdentityHashMap<>();
+        this.memoized = new IdentityHashMap<>();
     }
     
     
@@ -72,18 +74,47 @@ public class TreeWalker<T, R> {
     }
 
     
+    public void retain(Collection<? extends CommandNode<T>> commands) {
+        var reachable = Collections.<CommandNode<T>>newSetFromMap(new IdentityHashMap<>());
+        var pending = new ArrayDeque<CommandNode<T>>(commands);
+        for (CommandNode<T> command; (command = pending.poll()) != null;) {
+            if (reachable.add(command)) {
+                pending.addAll(command.getChildren());
+                if (command.getRedirect() != null) {
+                    pending.add(command.getRedirect());
+                }
+            }
+        }
+        
+        memoized.keySet().retainAll(reachable);
+    }
+
+    
     protected @Nullable CommandNode<R> map(CommandNode<T> command, @Nullable T source) {
         if (source != null && command.getRequirement() != null && !command.canUse(source)) {
             return null;
         }
         
         var result = mappings.get(command);
+        if (result == null && source == null) {
+            var memo = memoized.get(command);
+            if (memo != null && !Nodes.modified(command, memo.modifications) && memo.intact()) {
+                mappings.put(command, memo.result);
+                return memo.result;
+            }
+        }
+        
         if (result == null) {
+            var modifications = Nodes.modifications();
             result = mapper.map(command);
             mappings.put(command, result);
             
             redirect(command.getRedirect(), result, source);
             descend(command.getChildren(), result, source);
+            
+            if (source == null) {
+                memoized.put(command, new Memo<>(result, modifications));
+            }
         }
 
         return result;
@@ -104,4 +135,45 @@ public class TreeWalker<T, R> {
         }
     }
     
+    
+    protected static final class Memo<R> {
+        
+        final CommandNode<R> result;
+        final long modifications;
+        private final List<Object> snapshot;
+        
+        Memo(CommandNode<R> result, long modifications) {
+            this.result = result;
+            this.modifications = modifications;
+            this.snapshot = snapshot(result, new ArrayList<>());
+        }
+        
+        // Mapped nodes live in the server's dispatcher, which merges the commands and children of same-named nodes into them
+        boolean intact() {
+            var current = snapshot(result, new ArrayList<>(snapshot.size()));
+            if (current.size() != snapshot.size()) {
+                return false;
+            }
+            
+            for (int i = 0; i < snapshot.size(); i++) {
+                if (current.get(i) != snapshot.get(i)) {
+                    return false;
+                }
+            }
+            
+            return true;
+        }
+        
+        static List<Object> snapshot(CommandNode<?> node, List<Object> snapshot) {
+            snapshot.add(node);
+            snapshot.add(node.getCommand());
+            for (var child : node.getChildren()) {
+                snapshot(child, snapshot);
+            }
+            
+            return snapshot;
+        }
+        
+    }
+    
 }
@@ -50,6 +50,7 @@ public class Argument<T, V> extends ArgumentCommandNode<T, V> implements Mutable
     
     private CommandNode<T> destination;
     private Consumer<CommandNode<T>> addition;
+    volatile long modified;
     
     
     public Argument(String name, ArgumentType<V> type, Command<T> command, Predicate<T> requirement, SuggestionProvider<T> suggestions) {
@@ -70,11 +71,13 @@ public class Argument<T, V> extends ArgumentCommandNode<T, V> implements Mutable
     @Override
     public void addChild(CommandNode<T> child) {
         Nodes.addChild(this, child, addition);
+        modified = Nodes.modify();
     }
     
     
     @Override
     public CommandNode<T> removeChild(String child) {
+        modified = Nodes.modify();
         return Commands.remove(this, child);
     }
     
@@ -82,6 +85,7 @@ public class Argument<T, V> extends ArgumentCommandNode<T, V> implements Mutable
     @Override
     public void setCommand(Command<T> command) {
         Commands.execution(this, command);
+        modified = Nodes.modify();
     }
     
     
@@ -93,6 +97,7 @@ public class Argument<T, V> extends ArgumentCommandNode<T, V> implements Mutable
     @Override
     public void setRedirect(CommandNode<T> destination) {
         this.destination = destination;
+        modified = Nodes.modify();
     }
 
     
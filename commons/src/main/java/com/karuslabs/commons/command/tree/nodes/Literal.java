@@ -65,6 +65,7 @@ public class Literal<T> extends LiteralCommandNode<T> implements Aliasable<T>, M
     private Consumer<CommandNode<T>> addition;
     private List<LiteralCommandNode<T>> aliases;
     private boolean alias;
+    volatile long modified;
     
     
     public Literal(String name, Command<T> command, Predicate<T> requirement) {
@@ -96,6 +97,8 @@ public class Literal<T> extends LiteralCommandNode<T> implements Aliasable<T>, M
         for (var alias : aliases) {
             alias.addChild(child);
         }
+        
+        modify();
     }
     
     
@@ -106,6 +109,7 @@ public class Literal<T> extends LiteralCommandNode<T> implements Aliasable<T>, M
             Commands.remove(alias, child);
         }
         
+        modify();
         return removed;
     }
     
@@ -127,6 +131,8 @@ public class Literal<T> extends LiteralCommandNode<T> implements Aliasable<T>, M
         for (var alias : aliases) {
             Commands.execution(alias, command);
         }
+        
+        modify();
     }
 
     
@@ -143,6 +149,18 @@ public class Literal<T> extends LiteralCommandNode<T> implements Aliasable<T>, M
                 (((Mutable<T>) alias)).setRedirect(destination);
             }
         }
+        
+        modify();
+    }
+    
+    void modify() {
+        var modification = Nodes.modify();
+        modified = modification;
+        for (var alias : aliases) {
+            if (alias instanceof Literal<?>) {
+                ((Literal<?>) alias).modified = modification;
+            }
+        }
     }
 
     
@@ -30,16 +30,27 @@ import com.mojang.brigadier.Command;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.tree.CommandNode;
 
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+import org.bukkit.plugin.Plugin;
+
 
 public @Static class Nodes {
+    
+    private static final AtomicLong MODIFICATIONS = new AtomicLong();
 
     public static abstract class Builder<T, B extends Builder<T, B>> extends ArgumentBuilder<T, B> {
     
         public B executes(Execution<T> command) {
             return executes((Command<T>) command);
         }
+        
+        public B executes(AsyncExecution<T> command, Plugin plugin, Executor executor) {
+            return executes(command.async(executor, AsyncExecution.main(plugin)));
+        }
 
 
         public B optionally(ArgumentBuilder<T, ?> builder) {
@@ -58,6 +69,52 @@ public @Static class Nodes {
     }
     
     
+    static long modify() {
+        return MODIFICATIONS.incrementAndGet();
+    }
+    
+    public static long modifications() {
+        return MODIFICATIONS.get();
+    }
+    
+    public static boolean modified(CommandNode<?> node, long since) {
+        return modified(node, since, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+    
+    static boolean modified(CommandNode<?> node, long since, Set<CommandNode<?>> visited) {
+        if (!visited.add(node)) {
+            return false;
+        }
+        
+        if (node instanceof Literal<?>) {
+            if (((Literal<?>) node).modified > since) {
+                return true;
+            }
+            
+        } else if (node instanceof Argument<?, ?>) {
+            if (((Argument<?, ?>) node).modified > since) {
+                return true;
+            }
+            
+        } else {
+            return true; // Other nodes are not stamped, we assume that they were modified
+        }
+        
+        var redirect = node.getRedirect();
+        if (redirect != null && modified(redirect, since, visited)) {
+            return true;
+        }
+        
+        for (var child : node.getChildren()) {
+            if (modified(child, since, visited)) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    
     static <Node extends CommandNode<T> & Mutable<T>, T> void addChild(Node node, CommandNode<T> child, Consumer<CommandNode<T>> addition) {
         var current = node.getChild(child.getName());
         if (current != null) {
@@ -38,6 +38,9 @@ public class Root extends RootCommandNode<CommandSender> implements Mutable<Comm
     
     private String prefix;
     private PlatformMap map;
+    private volatile long version;
+    private final Set<String> changed = new HashSet<>();
+    private long synced;
     
     
     public Root(String prefix, PlatformMap map) {
@@ -62,24 +65,57 @@ public class Root extends RootCommandNode<CommandSender> implements Mutable<Comm
             return;
         }
         
-        super.addChild(Literal.alias(literal, prefix + ":" + literal.getName()));
+        version++;
+        add(Literal.alias(literal, prefix + ":" + literal.getName()));
         if (wrapper.getName().equals(wrapper.getLabel())) {
-            super.addChild(literal);
+            add(literal);
         }
         
         if (literal instanceof Aliasable<?>) {
             for (var alias : new ArrayList<>((((Aliasable<CommandSender>) literal).aliases()))) {
                 if (wrapper.getAliases().contains(alias.getName())) {
-                    super.addChild(Literal.alias(literal, prefix + ":" + alias.getName()));
-                    super.addChild(alias);
+                    add(Literal.alias(literal, prefix + ":" + alias.getName()));
+                    add(alias);
                 }
             }
         }
     }
+    
+    private void add(CommandNode<CommandSender> command) {
+        super.addChild(command);
+        changed.add(command.getName());
+    }
 
     @Override
     public CommandNode<CommandSender> removeChild(String child) {
-        return Commands.remove(this, child);
+        version++;
+        var removed = Commands.remove(this, child);
+        if (removed != null) {
+            changed.add(child);
+        }
+        
+        if (removed instanceof Aliasable<?>) {
+            for (var alias : ((Aliasable<?>) removed).aliases()) {
+                changed.add(alias.getName());
+            }
+        }
+        
+        return removed;
+    }
+    
+    
+    public Set<String> changes() {
+        var modifications = Nodes.modifications();
+        for (var child : getChildren()) {
+            if (Nodes.modified(child, synced)) {
+                changed.add(child.getName());
+            }
+        }
+        synced = modifications;
+        
+        var changes = Set.copyOf(changed);
+        changed.clear();
+        return changes;
     }
 
     
@@ -98,4 +134,8 @@ public class Root extends RootCommandNode<CommandSender> implements Mutable<Comm
         return map;
     }
     
+    public long version() {
+        return version;
+    }
+    
 }
@@ -80,6 +80,11 @@ public class MaterialType implements WordType<Material> {
         return builder.buildFuture();
     }
 
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+    
     @Override
     public List<String> getExamples() {
         return EXAMPLES;
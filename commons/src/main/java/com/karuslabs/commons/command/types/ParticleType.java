@@ -71,6 +71,11 @@ public class ParticleType implements WordType<Particle> {
         return builder.buildFuture();
     }
 
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+    
     @Override
     public List<String> getExamples() {
         return EXAMPLES;
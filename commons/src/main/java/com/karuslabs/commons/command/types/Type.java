@@ -44,4 +44,8 @@ public interface Type<T> extends ArgumentType<T> {
     
     public ArgumentType<?> mapped();
     
+    public default boolean cacheable() {
+        return false;
+    }
+    
 }
@@ -56,4 +56,9 @@ public final class UUIDType implements Type<UUID> {
         return UUID;
     }
 
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+
 }
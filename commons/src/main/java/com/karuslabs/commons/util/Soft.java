@@ -0,0 +1,203 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import com.karuslabs.annotations.Monad;
+
+import java.lang.ref.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.Stream;
+
+import static com.karuslabs.commons.util.SoftValue.EMPTY;
+import static java.util.stream.Stream.ofNullable;
+
+public @Monad interface Soft<T> {
+    
+    static <T> Soft<T> of(T value) {
+        return new SoftValue<>(value);
+    }
+    
+    static <T> Soft<T> empty() {
+        return (Soft<T>) EMPTY;
+    }
+    
+    
+    Soft<T> filter(Predicate<? super T> predicate);
+    
+    <U> Soft<U> flatMap(Function<? super T, ? extends Soft<? extends U>> mapper);
+    
+    <U> Soft<U> map(Function<? super T, ? extends U> mapper);
+    
+    
+    Soft<T> orElse(Supplier<? extends Soft<? extends T>> other);
+    
+    
+    T or(T other);
+    
+    T or(Supplier<T> other);
+    
+    T orThrow();
+    
+    <E extends Throwable> T orThrow(Supplier<? extends E> exception) throws E;
+            
+    
+    void ifPresent(Consumer<? super T> action);
+    
+    void ifPresent(Consumer<? super T> action, Runnable otherwise);
+    
+    boolean isPresent();
+    
+    
+    Stream<T> stream();
+    
+}
+
+@Monad class SoftValue<T> extends SoftReference<T> implements Soft<T> {
+    
+    static final Soft<?> EMPTY = new SoftValue<>(null);
+    
+    SoftValue(T referent) {
+        super(referent);
+    }
+    
+    SoftValue(T referent, ReferenceQueue<? super T> queue) {
+        super(referent, queue);
+    }
+
+    
+    @Override
+    public Soft<T> filter(Predicate<? super T> predicate) {
+       T value = get();
+       return value != null && predicate.test(value) ? this : (Soft<T>) EMPTY;
+    }
+
+    @Override
+    public <U> Soft<U> flatMap(Function<? super T, ? extends Soft<? extends U>> mapper) {
+        T value = get();
+        return value != null ? (Soft<U>) mapper.apply(value) : (Soft<U>) EMPTY;
+    }
+    
+    @Override
+    public <U> Soft<U> map(Function<? super T, ? extends U> mapper) {
+        T value = get();
+        return value != null ? new SoftValue<>(mapper.apply(value)) : (Soft<U>) EMPTY;
+    }
+
+    
+    @Override
+    public Soft<T> orElse(Supplier<? extends Soft<? extends T>> other) {
+        T value = get();
+        return value != null ? this : (Soft<T>) other.get();
+    }
+
+    @Override
+    public T or(T other) {
+        T value = get();
+        return value != null ? value : other;
+    }
+
+    @Override
+    public T or(Supplier<T> other) {
+        T value = get();
+        return value != null ? value : other.get();
+    }
+
+    @Override
+    public T orThrow() {
+        T value = get();
+        if (value != null) {
+            return value;
+        } else {
+            throw new NoSuchElementException("Value was reclaimed");
+        }
+    }
+
+    @Override
+    public <E extends Throwable> T orThrow(Supplier<? extends E> exception) throws E {
+        T value = get();
+        if (value != null) {
+            return value;
+        } else {
+            throw exception.get();
+        }
+    }
+
+    
+    @Override
+    public void ifPresent(Consumer<? super T> action) {
+        T value = get();
+        if (value != null) {
+            action.accept(value);
+        }
+    }
+
+    @Override
+    public void ifPresent(Consumer<? super T> action, Runnable otherwise) {
+        T value = get();
+        if (value != null) {
+            action.accept(value);
+        } else {
+            otherwise.run();
+        }
+    }
+
+    @Override
+    public boolean isPresent() {
+        return get() != null;
+    }
+
+    
+    @Override
+    public Stream<T> stream() {
+        return ofNullable(get());
+    }
+    
+    
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof Soft<?>)) {
+            return false;
+        }
+
+        return Objects.equals(get(), ((Soft<?>) other).or(null));
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+    
+    @Override
+    public String toString() {
+        T value = get();
+        return value != null ? "Soft[" + value + "]" : "Soft.empty";
+    }
+
+}
+
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.lang.ref.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class SoftCache<K, V> {
+    
+    final ConcurrentMap<K, SoftEntry<K, V>> map;
+    private final Function<? super K, ? extends V> function;
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    
+    public SoftCache(Function<? super K, ? extends V> function) {
+        this(function, 16);
+    }
+    
+    public SoftCache(Function<? super K, ? extends V> function, int capacity) {
+        this.function = function;
+        this.map = new ConcurrentHashMap<>(capacity);
+    }
+    
+    
+    public V get(K key) {
+        expunge();
+        var entry = map.get(key);
+        var value = entry == null ? null : entry.get();
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        
+        misses.increment();
+        var computed = function.apply(key);
+        var current = map.merge(key, new SoftEntry<>(key, computed, queue), (old, replacement) -> old.isPresent() ? old : replacement);
+        
+        value = current.get();
+        return value != null ? value : computed;
+    }
+    
+    public @Nullable V getIfPresent(K key) {
+        expunge();
+        var entry = map.get(key);
+        var value = entry == null ? null : entry.get();
+        if (value != null) {
+            hits.increment();
+            
+        } else {
+            misses.increment();
+        }
+        
+        return value;
+    }
+    
+    public Soft<V> soft(K key) {
+        expunge();
+        var entry = map.get(key);
+        return entry != null ? entry : Soft.empty();
+    }
+    
+    
+    public void invalidate(K key) {
+        map.remove(key);
+        expunge();
+    }
+    
+    public void invalidateAll() {
+        map.clear();
+        expunge();
+    }
+    
+    
+    public long hits() {
+        return hits.sum();
+    }
+    
+    public long misses() {
+        return misses.sum();
+    }
+    
+    public int size() {
+        expunge();
+        return map.size();
+    }
+    
+    
+    void expunge() {
+        for (Reference<? extends V> reference; (reference = queue.poll()) != null;) {
+            var entry = (SoftEntry<K, V>) reference;
+            map.remove(entry.key, entry);
+        }
+    }
+    
+    
+    static final class SoftEntry<K, V> extends SoftValue<V> {
+        
+        final K key;
+        
+        SoftEntry(K key, V value, ReferenceQueue<? super V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+        
+    }
+    
+}
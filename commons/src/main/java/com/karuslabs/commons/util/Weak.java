@@ -25,7 +25,7 @@ package com.karuslabs.commons.util;
 
 import com.karuslabs.annotations.Monad;
 
-import java.lang.ref.WeakReference;
+import java.lang.ref.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.Stream;
@@ -74,13 +74,17 @@ public @Monad interface Weak<T> {
     
 }
 
-final @Monad class WeakValue<T> extends WeakReference<T> implements Weak<T> {
+@Monad class WeakValue<T> extends WeakReference<T> implements Weak<T> {
     
     static final Weak<?> EMPTY = new WeakValue<>(null);
     
     WeakValue(T referent) {
         super(referent);
     }
+    
+    WeakValue(T referent, ReferenceQueue<? super T> queue) {
+        super(referent, queue);
+    }
 
     
     @Override
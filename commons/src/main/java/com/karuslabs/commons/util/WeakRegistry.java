@@ -0,0 +1,188 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.lang.ref.*;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.Stream;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class WeakRegistry<K, V> {
+    
+    final ConcurrentMap<WeakKey<K>, V> map;
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+    
+    
+    public WeakRegistry() {
+        this(16);
+    }
+    
+    public WeakRegistry(int capacity) {
+        map = new ConcurrentHashMap<>(capacity);
+    }
+    
+    
+    public boolean containsKey(K key) {
+        expunge();
+        return map.containsKey(new Lookup(key));
+    }
+    
+    
+    public @Nullable V get(K key) {
+        expunge();
+        return map.get(new Lookup(key));
+    }
+    
+    public V getOrDefault(K key, V value) {
+        var item = get(key);
+        return item != null ? item : value;
+    }
+    
+    
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        expunge();
+        var value = map.get(new Lookup(key));
+        return value != null ? value : map.computeIfAbsent(new WeakKey<>(key, queue), weak -> function.apply(key));
+    }
+    
+    public @Nullable V put(K key, V value) {
+        expunge();
+        return map.put(new WeakKey<>(key, queue), value);
+    }
+    
+    public @Nullable V putIfAbsent(K key, V value) {
+        expunge();
+        return map.putIfAbsent(new WeakKey<>(key, queue), value);
+    }
+    
+    public @Nullable V remove(K key) {
+        expunge();
+        return map.remove(new Lookup(key));
+    }
+    
+    public void clear() {
+        map.clear();
+        expunge();
+    }
+    
+    
+    public Stream<K> keys() {
+        expunge();
+        return map.keySet().stream().map(WeakKey::get).filter(key -> key != null);
+    }
+    
+    public Stream<V> values() {
+        expunge();
+        return map.entrySet().stream().filter(entry -> entry.getKey().isPresent()).map(entry -> entry.getValue());
+    }
+    
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        expunge();
+        map.forEach((weak, value) -> {
+            var key = weak.get();
+            if (key != null) {
+                action.accept(key, value);
+            }
+        });
+    }
+    
+    
+    public int size() {
+        expunge();
+        return map.size();
+    }
+    
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+    
+    
+    void expunge() {
+        for (Reference<? extends K> reference; (reference = queue.poll()) != null;) {
+            map.remove(reference);
+        }
+    }
+    
+    
+    static final class WeakKey<K> extends WeakValue<K> {
+        
+        private final int hash;
+        
+        WeakKey(K referent, ReferenceQueue<? super K> queue) {
+            super(Objects.requireNonNull(referent), queue);
+            hash = System.identityHashCode(referent);
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            
+            var key = get();
+            if (key == null) {
+                return false;
+                
+            } else if (other instanceof WeakKey<?>) {
+                return key == ((WeakKey<?>) other).get();
+                
+            } else if (other instanceof Lookup) {
+                return key == ((Lookup) other).key;
+                
+            } else {
+                return false;
+            }
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+        
+    }
+    
+    static final class Lookup {
+        
+        final Object key;
+        
+        Lookup(Object key) {
+            this.key = key;
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof WeakKey<?> && ((WeakKey<?>) other).get() == key;
+        }
+        
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+        
+    }
+    
+}
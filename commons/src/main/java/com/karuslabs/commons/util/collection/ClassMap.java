@@ -23,7 +23,7 @@
  */
 package com.karuslabs.commons.util.collection;
 
-import com.karuslabs.annotations.Delegate;
+import com.karuslabs.annotations.*;
 import com.karuslabs.commons.util.Type;
 
 import java.util.*;
@@ -44,6 +44,10 @@ public interface ClassMap<T> {
         return new ProxiedClassMap<>(map);
     }
     
+    static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+    
     
     default <U extends T> boolean containsKey(Class<U> type) {
         return map().containsKey(type);
@@ -68,6 +72,11 @@ public interface ClassMap<T> {
         }
     }
     
+    default @Nullable T resolve(Class<?> type) {
+        return Hierarchy.resolve(map(), type);
+    }
+    
+    
     default <U extends T> @Nullable U put(Class<U> type, U value) {
         return (U) map().put(type, value);
     }
@@ -77,8 +86,72 @@ public interface ClassMap<T> {
     }
     
     
+    default ClassMap<T> freeze() {
+        return new FrozenClassMap<>(map());
+    }
+    
+    
     Map<Class<? extends T>, T> map();
     
+    
+    public static final class Builder<T> {
+        
+        private final Map<Class<? extends T>, T> map = new HashMap<>();
+        
+        Builder() {}
+        
+        
+        public <U extends T> Builder<T> put(Class<U> type, U value) {
+            map.put(type, value);
+            return this;
+        }
+        
+        public Builder<T> putAll(ClassMap<T> other) {
+            map.putAll(other.map());
+            return this;
+        }
+        
+        
+        public ClassMap<T> build() {
+            return new FrozenClassMap<>(map);
+        }
+        
+    }
+    
+}
+
+@Static class Hierarchy {
+    
+    static <T> @Nullable T resolve(Map<Class<? extends T>, T> map, Class<?> type) {
+        for (var current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            var value = map.get(current);
+            if (value != null) {
+                return value;
+            }
+        }
+        
+        var interfaces = new ArrayDeque<Class<?>>();
+        for (var current = type; current != null; current = current.getSuperclass()) {
+            Collections.addAll(interfaces, current.getInterfaces());
+        }
+        
+        var visited = new HashSet<Class<?>>();
+        for (var current = interfaces.poll(); current != null; current = interfaces.poll()) {
+            if (!visited.add(current)) {
+                continue;
+            }
+            
+            var value = map.get(current);
+            if (value != null) {
+                return value;
+            }
+            
+            Collections.addAll(interfaces, current.getInterfaces());
+        }
+        
+        return type.isPrimitive() ? null : map.get(Object.class);
+    }
+    
 }
 
 final class HashClassMap<T> extends HashMap<Class<? extends T>, T> implements ClassMap<T> {
@@ -24,9 +24,13 @@
 package com.karuslabs.commons.util.collection;
 
 import com.karuslabs.annotations.Delegate;
+import com.karuslabs.commons.util.Type;
 
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.*;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public interface ConcurrentClassMap<T> extends ClassMap<T> {
     
@@ -38,6 +42,14 @@ public interface ConcurrentClassMap<T> extends ClassMap<T> {
         return new ConcurrentHashClassMap<>(capacity);
     }
     
+    static <T> ConcurrentClassMap<T> cached() {
+        return new ConcurrentClassValueMap<>();
+    }
+    
+    static <T> ConcurrentClassMap<T> cached(int capacity) {
+        return new ConcurrentClassValueMap<>(capacity);
+    }
+    
     static <T> @Delegate ConcurrentClassMap<T> of(ConcurrentMap<Class<? extends T>, T> map) {
         return new ConcurrentProxiedClassMap<>(map);
     }
@@ -63,6 +75,318 @@ final class ConcurrentHashClassMap<T> extends ConcurrentHashMap<Class<? extends
     
 }
 
+final class ConcurrentClassValueMap<T> implements ConcurrentClassMap<T> {
+    
+    private static final Object ABSENT = new Object();
+    
+    private final Registry registry;
+    // ClassValue.remove(...) may race with a concurrent computeValue(...), we therefore swap in fresh instances instead
+    volatile ClassValue<Object> values = new Values();
+    private volatile ClassValue<Object> resolutions = new Resolutions();
+    
+    
+    ConcurrentClassValueMap() {
+        registry = new Registry(new ConcurrentHashMap<>());
+    }
+    
+    ConcurrentClassValueMap(int capacity) {
+        registry = new Registry(new ConcurrentHashMap<>(capacity));
+    }
+    
+    
+    @Override
+    public <U extends T> boolean containsKey(Class<U> type) {
+        return values.get(type) != ABSENT;
+    }
+    
+    @Override
+    public <U extends T> @Nullable U get(Class<U> type) {
+        var value = values.get(type);
+        return value == ABSENT ? null : (U) value;
+    }
+    
+    @Override
+    public <U extends T> U getOrDefault(Class<U> type, U value) {
+        var item = values.get(type);
+        if (item != ABSENT && Type.box(type).isAssignableFrom(item.getClass())) {
+            return (U) item;
+            
+        } else {
+            return value;
+        }
+    }
+    
+    
+    @Override
+    public @Nullable T resolve(Class<?> type) {
+        var value = resolutions.get(type);
+        return value == ABSENT ? null : (T) value;
+    }
+    
+    
+    @Override
+    public ConcurrentMap<Class<? extends T>, T> map() {
+        return registry;
+    }
+    
+    
+    void invalidate() {
+        values = new Values();
+        resolutions = new Resolutions();
+    }
+    
+    
+    final class Values extends ClassValue<Object> {
+        
+        @Override
+        protected Object computeValue(Class<?> type) {
+            var value = registry.map.get(type);
+            return value == null ? ABSENT : value;
+        }
+        
+    }
+    
+    final class Resolutions extends ClassValue<Object> {
+        
+        @Override
+        protected Object computeValue(Class<?> type) {
+            var value = Hierarchy.resolve(registry.map, type);
+            return value == null ? ABSENT : value;
+        }
+        
+    }
+    
+    final class Registry extends AbstractMap<Class<? extends T>, T> implements ConcurrentMap<Class<? extends T>, T> {
+        
+        final ConcurrentHashMap<Class<? extends T>, T> map;
+        private final Set<Entry<Class<? extends T>, T>> entries = new Entries();
+        
+        
+        Registry(ConcurrentHashMap<Class<? extends T>, T> map) {
+            this.map = map;
+        }
+        
+        
+        @Override
+        public int size() {
+            return map.size();
+        }
+        
+        @Override
+        public boolean isEmpty() {
+            return map.isEmpty();
+        }
+        
+        @Override
+        public boolean containsKey(Object type) {
+            return map.containsKey(type);
+        }
+        
+        @Override
+        public boolean containsValue(Object value) {
+            return map.containsValue(value);
+        }
+        
+        @Override
+        public T get(Object type) {
+            return map.get(type);
+        }
+        
+        @Override
+        public T getOrDefault(Object type, T value) {
+            return map.getOrDefault(type, value);
+        }
+        
+        @Override
+        public void forEach(BiConsumer<? super Class<? extends T>, ? super T> consumer) {
+            map.forEach(consumer);
+        }
+        
+        
+        @Override
+        public T put(Class<? extends T> type, T value) {
+            var old = map.put(type, value);
+            invalidate();
+            return old;
+        }
+
+        @Override
+        public void putAll(Map<? extends Class<? extends T>, ? extends T> map) {
+            this.map.putAll(map);
+            invalidate();
+        }
+
+        @Override
+        public T putIfAbsent(Class<? extends T> type, T value) {
+            var old = map.putIfAbsent(type, value);
+            if (old == null) {
+                invalidate();
+            }
+            return old;
+        }
+
+
+        @Override
+        public T remove(Object type) {
+            var old = map.remove(type);
+            if (old != null) {
+                invalidate();
+            }
+            return old;
+        }
+
+        @Override
+        public boolean remove(Object type, Object value) {
+            var removed = map.remove(type, value);
+            if (removed) {
+                invalidate();
+            }
+            return removed;
+        }
+
+
+        @Override
+        public T replace(Class<? extends T> type, T value) {
+            var old = map.replace(type, value);
+            if (old != null) {
+                invalidate();
+            }
+            return old;
+        }
+
+        @Override
+        public boolean replace(Class<? extends T> type, T old, T value) {
+            var replaced = map.replace(type, old, value);
+            if (replaced) {
+                invalidate();
+            }
+            return replaced;
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super Class<? extends T>, ? super T, ? extends T> function) {
+            map.replaceAll(function);
+            invalidate();
+        }
+
+
+        @Override
+        public T compute(Class<? extends T> type, BiFunction<? super Class<? extends T>, ? super T, ? extends T> function) {
+            var value = map.compute(type, function);
+            invalidate();
+            return value;
+        }
+
+        @Override
+        public T computeIfAbsent(Class<? extends T> type, Function<? super Class<? extends T>, ? extends T> function) {
+            var computed = new boolean[1];
+            var value = map.computeIfAbsent(type, key -> {
+                var result = function.apply(key);
+                computed[0] = result != null;
+                return result;
+            });
+            
+            if (computed[0]) {
+                invalidate();
+            }
+            return value;
+        }
+
+        @Override
+        public T computeIfPresent(Class<? extends T> type, BiFunction<? super Class<? extends T>, ? super T, ? extends T> function) {
+            var computed = new boolean[1];
+            var value = map.computeIfPresent(type, (key, old) -> {
+                computed[0] = true;
+                return function.apply(key, old);
+            });
+            
+            if (computed[0]) {
+                invalidate();
+            }
+            return value;
+        }
+
+        @Override
+        public T merge(Class<? extends T> type, T value, BiFunction<? super T, ? super T, ? extends T> function) {
+            var merged = map.merge(type, value, function);
+            invalidate();
+            return merged;
+        }
+
+
+        @Override
+        public void clear() {
+            map.clear();
+            invalidate();
+        }
+        
+        
+        // keySet() and values() are derived from entrySet(), removals through any of the views are hence observed
+        @Override
+        public Set<Entry<Class<? extends T>, T>> entrySet() {
+            return entries;
+        }
+        
+        
+        final class Entries extends AbstractSet<Entry<Class<? extends T>, T>> {
+            
+            @Override
+            public Iterator<Entry<Class<? extends T>, T>> iterator() {
+                var iterator = map.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Class<? extends T>, T> next() {
+                        var entry = iterator.next();
+                        return new SimpleEntry<>(entry) {
+                            @Override
+                            public T setValue(T value) {
+                                super.setValue(value);
+                                return put(getKey(), value);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                        invalidate();
+                    }
+                };
+            }
+            
+            @Override
+            public boolean contains(Object entry) {
+                return map.entrySet().contains(entry);
+            }
+            
+            @Override
+            public boolean remove(Object entry) {
+                var removed = map.entrySet().remove(entry);
+                invalidate();
+                return removed;
+            }
+            
+            @Override
+            public int size() {
+                return map.size();
+            }
+            
+            @Override
+            public void clear() {
+                Registry.this.clear();
+            }
+            
+        }
+        
+    }
+    
+}
+
 final @Delegate class ConcurrentProxiedClassMap<T> implements ConcurrentClassMap<T> {
 
     private final ConcurrentMap<Class<? extends T>, T> map;
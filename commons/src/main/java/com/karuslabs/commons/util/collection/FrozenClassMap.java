@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.collection;
+
+import com.karuslabs.annotations.Immutable;
+
+import java.util.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final @Immutable class FrozenClassMap<T> extends AbstractMap<Class<? extends T>, T> implements ClassMap<T> {
+    
+    private static final Object ABSENT = new Object();
+    
+    private final Object[] table;
+    private final int mask;
+    private final int size;
+    private final ClassValue<Object> resolutions = new ClassValue<>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            var value = Hierarchy.resolve(FrozenClassMap.this, type);
+            return value == null ? ABSENT : value;
+        }
+    };
+    
+    
+    FrozenClassMap(Map<Class<? extends T>, T> map) {
+        // The map may be concurrently modified, i.e. a ConcurrentClassMap's registry, we therefore size the table from a copy
+        var entries = new ArrayList<>(map.entrySet());
+        var capacity = Integer.highestOneBit(Math.max(1, entries.size()) * 2 - 1) << 1;
+        table = new Object[capacity * 2];
+        mask = capacity - 1;
+        size = entries.size();
+        
+        for (var entry : entries) {
+            var type = Objects.requireNonNull(entry.getKey());
+            var value = Objects.requireNonNull(entry.getValue(), "Value for " + type.getName() + " is null");
+            
+            var i = index(type);
+            while (table[i << 1] != null) {
+                i = (i + 1) & mask;
+            }
+            
+            table[i << 1] = type;
+            table[(i << 1) + 1] = value;
+        }
+    }
+    
+    int probe(Object type) {
+        for (var i = index(type); ; i = (i + 1) & mask) {
+            var key = table[i << 1];
+            if (key == type) {
+                return i;
+                
+            } else if (key == null) {
+                return -1;
+            }
+        }
+    }
+    
+    int index(Object type) {
+        var hash = type.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+    
+    
+    @Override
+    public boolean containsKey(Object type) {
+        return type != null && probe(type) != -1;
+    }
+    
+    @Override
+    public @Nullable T get(Object type) {
+        if (type == null) {
+            return null;
+        }
+        
+        var i = probe(type);
+        return i == -1 ? null : (T) table[(i << 1) + 1];
+    }
+    
+    @Override
+    public @Nullable T resolve(Class<?> type) {
+        var value = resolutions.get(type);
+        return value == ABSENT ? null : (T) value;
+    }
+    
+    
+    @Override
+    public ClassMap<T> freeze() {
+        return this;
+    }
+    
+    @Override
+    public Map<Class<? extends T>, T> map() {
+        return this;
+    }
+    
+    
+    @Override
+    public Set<Entry<Class<? extends T>, T>> entrySet() {
+        return new EntrySet();
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    
+    final class EntrySet extends AbstractSet<Entry<Class<? extends T>, T>> {
+        
+        @Override
+        public Iterator<Entry<Class<? extends T>, T>> iterator() {
+            return new EntryIterator();
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+        
+    }
+    
+    final class EntryIterator implements Iterator<Entry<Class<? extends T>, T>> {
+        
+        private int index = advance(0);
+        
+        @Override
+        public boolean hasNext() {
+            return index < table.length;
+        }
+        
+        @Override
+        public Entry<Class<? extends T>, T> next() {
+            if (index >= table.length) {
+                throw new NoSuchElementException();
+            }
+            
+            Entry<Class<? extends T>, T> entry = new SimpleImmutableEntry<>((Class<? extends T>) table[index], (T) table[index + 1]);
+            index = advance(index + 2);
+            return entry;
+        }
+        
+        private int advance(int index) {
+            while (index < table.length && table[index] == null) {
+                index += 2;
+            }
+            return index;
+        }
+        
+    }
+    
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.collection;
+
+import com.karuslabs.annotations.Immutable;
+import com.karuslabs.commons.util.Type;
+import com.karuslabs.commons.util.collection.TokenMap.Key;
+
+import java.util.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final @Immutable class FrozenTokenMap<N, T> extends AbstractMap<Key<N, ? extends T>, T> implements TokenMap<N, T> {
+    
+    private final Object[] table;
+    private final int mask;
+    private final int size;
+    
+    
+    FrozenTokenMap(Map<Key<N, ? extends T>, T> map) {
+        // The map may be concurrently modified, i.e. a ConcurrentClassMap's registry, we therefore size the table from a copy
+        var entries = new ArrayList<>(map.entrySet());
+        var capacity = Integer.highestOneBit(Math.max(1, entries.size()) * 2 - 1) << 1;
+        table = new Object[capacity * 2];
+        mask = capacity - 1;
+        size = entries.size();
+        
+        for (var entry : entries) {
+            var key = Objects.requireNonNull(entry.getKey());
+            var value = Objects.requireNonNull(entry.getValue(), "Value for " + key + " is null");
+            
+            var i = index(key.hashCode());
+            while (table[i << 1] != null) {
+                i = (i + 1) & mask;
+            }
+            
+            table[i << 1] = key;
+            table[(i << 1) + 1] = value;
+        }
+    }
+    
+    int probe(Object name, Class<?> type) {
+        for (var i = index(Key.hash(name, type)); ; i = (i + 1) & mask) {
+            var key = (Key<?, ?>) table[i << 1];
+            if (key == null) {
+                return -1;
+                
+            } else if (key.matches(name, type)) {
+                return i;
+            }
+        }
+    }
+    
+    int probe(Object key) {
+        for (var i = index(key.hashCode()); ; i = (i + 1) & mask) {
+            var other = table[i << 1];
+            if (other == null) {
+                return -1;
+                
+            } else if (other.equals(key)) {
+                return i;
+            }
+        }
+    }
+    
+    int index(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+    
+    
+    @Override
+    public <U extends T> boolean containsKey(N name, Class<U> type) {
+        return probe(name, type) != -1;
+    }
+    
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Key<?, ?> && probe(key) != -1;
+    }
+    
+    
+    @Override
+    public <U extends T> @Nullable U get(N name, Class<U> type) {
+        var i = probe(name, type);
+        return i == -1 ? null : (U) table[(i << 1) + 1];
+    }
+    
+    @Override
+    public @Nullable T get(Object key) {
+        if (!(key instanceof Key<?, ?>)) {
+            return null;
+        }
+        
+        var i = probe(key);
+        return i == -1 ? null : (T) table[(i << 1) + 1];
+    }
+    
+    
+    @Override
+    public <U extends T> U getOrDefault(N name, Class<U> type, U value) {
+        var item = get(name, type);
+        if (item != null && Type.box(type).isAssignableFrom(item.getClass())) {
+            return item;
+            
+        } else {
+            return value;
+        }
+    }
+    
+    @Override
+    public <U extends T> @Nullable U remove(N name, Class<U> type) {
+        throw new UnsupportedOperationException("Map is immutable");
+    }
+    
+    
+    @Override
+    public TokenMap<N, T> freeze() {
+        return this;
+    }
+    
+    @Override
+    public Map<Key<N, ? extends T>, T> map() {
+        return this;
+    }
+    
+    
+    @Override
+    public Set<Entry<Key<N, ? extends T>, T>> entrySet() {
+        return new EntrySet();
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    
+    final class EntrySet extends AbstractSet<Entry<Key<N, ? extends T>, T>> {
+        
+        @Override
+        public Iterator<Entry<Key<N, ? extends T>, T>> iterator() {
+            return new EntryIterator();
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+        
+    }
+    
+    final class EntryIterator implements Iterator<Entry<Key<N, ? extends T>, T>> {
+        
+        private int index = advance(0);
+        
+        @Override
+        public boolean hasNext() {
+            return index < table.length;
+        }
+        
+        @Override
+        public Entry<Key<N, ? extends T>, T> next() {
+            if (index >= table.length) {
+                throw new NoSuchElementException();
+            }
+            
+            Entry<Key<N, ? extends T>, T> entry = new SimpleImmutableEntry<>((Key<N, ? extends T>) table[index], (T) table[index + 1]);
+            index = advance(index + 2);
+            return entry;
+        }
+        
+        private int advance(int index) {
+            while (index < table.length && table[index] == null) {
+                index += 2;
+            }
+            return index;
+        }
+        
+    }
+    
+}
@@ -47,6 +47,10 @@ public interface TokenMap<N, T> {
         return new ProxiedTokenMap<>(map);
     }
     
+    static <N, T> Builder<N, T> builder() {
+        return new Builder<>();
+    }
+    
     
     <U extends T> boolean containsKey(N name, Class<U> type);
     
@@ -95,6 +99,11 @@ public interface TokenMap<N, T> {
     }
     
     
+    default TokenMap<N, T> freeze() {
+        return new FrozenTokenMap<>(map());
+    }
+    
+    
     Map<Key<N, ? extends T>, T> map();
     
     
@@ -115,10 +124,18 @@ public interface TokenMap<N, T> {
         Key<N, ? extends T> set(N name, Class<? extends T> type) {
             this.type = type;
             this.name = name;
-            this.hash = Objects.hash(name, type);
+            this.hash = hash(name, type);
             return this;
         }
         
+        static int hash(Object name, Class<?> type) {
+            return 31 * (31 + Objects.hashCode(name)) + Objects.hashCode(type);
+        }
+        
+        boolean matches(Object name, Class<?> type) {
+            return this.type == type && Objects.equals(this.name, name);
+        }
+        
         @Override
         public boolean equals(Object other) {
             if (this == other) {
@@ -130,7 +147,7 @@ public interface TokenMap<N, T> {
             }
             
             var key = (Key<?, ?>) other;
-            return type == key.type && Objects.equals(name, key.name);
+            return matches(key.name, key.type);
         }
         
         @Override
@@ -145,6 +162,34 @@ public interface TokenMap<N, T> {
 
     }
     
+    public static final class Builder<N, T> {
+        
+        private final Map<Key<N, ? extends T>, T> map = new HashMap<>();
+        
+        Builder() {}
+        
+        
+        public <U extends T> Builder<N, T> put(N name, Class<U> type, U value) {
+            return put(key(name, type), value);
+        }
+        
+        public <U extends T> Builder<N, T> put(Key<N, U> key, U value) {
+            map.put(key, value);
+            return this;
+        }
+        
+        public Builder<N, T> putAll(TokenMap<N, T> other) {
+            map.putAll(other.map());
+            return this;
+        }
+        
+        
+        public TokenMap<N, T> build() {
+            return new FrozenTokenMap<>(map);
+        }
+        
+    }
+    
 }
 
 final class HashTokenMap<N, T> extends HashMap<Key<N, ? extends T>, T> implements TokenMap<N, T> {
@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+public final class CatchUp {
+    
+    static final CatchUp UNBOUNDED = new CatchUp(Long.MAX_VALUE, false);
+    private static final CatchUp SKIP = new CatchUp(0, false);
+    private static final CatchUp COALESCE = new CatchUp(1, true);
+    
+    
+    public static CatchUp skip() {
+        return SKIP;
+    }
+    
+    public static CatchUp coalesce() {
+        return COALESCE;
+    }
+    
+    public static CatchUp burst(long limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must be positive, was " + limit);
+        }
+        
+        return limit == 0 ? SKIP : new CatchUp(limit, false);
+    }
+    
+    
+    private final long limit;
+    private final boolean coalesce;
+    
+    private CatchUp(long limit, boolean coalesce) {
+        this.limit = limit;
+        this.coalesce = coalesce;
+    }
+    
+    
+    boolean admit(RunnableContext context, long late) {
+        if (context.skip > 0) {
+            context.skip--;
+            return false;
+        }
+        
+        if (late < context.period) {
+            context.burst = 0;
+            return true;
+        }
+        
+        if (context.burst >= limit) {
+            context.missed++;
+            return false;
+        }
+        
+        context.burst++;
+        if (coalesce) {
+            var backlog = late / context.period;
+            context.skip = backlog;
+            context.missed += backlog;
+        }
+        
+        return true;
+    }
+    
+}
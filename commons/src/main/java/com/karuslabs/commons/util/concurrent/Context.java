@@ -31,4 +31,8 @@ public interface Context {
     
     long times();
     
+    default long missed() {
+        return 0;
+    }
+    
 }
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class KeyedExecutor {
+    
+    static final int BATCH = 32;
+    
+    private final Executor executor;
+    final ConcurrentMap<Object, Lane> lanes = new ConcurrentHashMap<>();
+    
+    
+    public KeyedExecutor(Executor executor) {
+        this.executor = executor;
+    }
+    
+    
+    public Executor lane(Object key) {
+        return task -> execute(key, task);
+    }
+    
+    public void execute(Object key, Runnable task) {
+        var lane = lanes.compute(key, (k, current) -> {
+            if (current == null) {
+                current = new Lane(k);
+            }
+            current.tasks.offer(task);
+            return current;
+        });
+        
+        if (lane.scheduled.compareAndSet(false, true)) {
+            try {
+                lane.dispatch();
+                
+            } catch (RuntimeException e) {
+                lane.tasks.remove(task);
+                lane.release();
+                throw e;
+            }
+        }
+    }
+    
+    
+    public int size() {
+        return lanes.size();
+    }
+    
+    
+    final class Lane implements Runnable {
+        
+        private final Object key;
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        
+        Lane(Object key) {
+            this.key = key;
+        }
+        
+        @Override
+        public void run() {
+            for (int i = 0; i < BATCH; i++) {
+                var task = tasks.poll();
+                if (task == null) {
+                    break;
+                }
+                
+                try {
+                    task.run();
+                    
+                } catch (Throwable e) {
+                    var thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+            
+            if (!tasks.isEmpty()) {
+                dispatch();
+                return;
+            }
+            
+            scheduled.set(false);
+            if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+                dispatch();
+                return;
+            }
+            
+            release();
+        }
+        
+        void dispatch() {
+            try {
+                executor.execute(this);
+                
+            } catch (RuntimeException e) {
+                scheduled.set(false);
+                throw e;
+            }
+        }
+        
+        void release() {
+            lanes.computeIfPresent(key, (k, lane) -> lane == this && tasks.isEmpty() && !scheduled.get() ? null : lane);
+        }
+        
+    }
+    
+}
@@ -25,8 +25,9 @@ package com.karuslabs.commons.util.concurrent;
 
 import com.karuslabs.annotations.*;                                            
 
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.*;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -34,6 +35,9 @@ public final @Monad class Maybe<T> extends FutureTask<T> {
     
     private static final Callable<?> CALLABLE = () -> null;
     
+    private @Lazy List<Runnable> callbacks;
+    private boolean completed;
+    
     
     public static <T> Maybe<T> value(T value) {
         var maybe =  new Maybe(CALLABLE);
@@ -42,6 +46,26 @@ public final @Monad class Maybe<T> extends FutureTask<T> {
         return maybe;
     }
     
+    public static <T> Maybe<T> from(CompletionStage<T> stage) {
+        var maybe = new Maybe<T>((Callable<T>) CALLABLE);
+        stage.whenComplete((value, exception) -> {
+            if (exception == null) {
+                maybe.set(value);
+                return;
+            }
+            
+            var cause = exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception;
+            if (cause instanceof CancellationException) {
+                maybe.cancel(false);
+                
+            } else {
+                maybe.setException(cause);
+            }
+        });
+        
+        return maybe;
+    }
+    
     
     public Maybe(Callable<T> callable) {
         super(callable);
@@ -52,6 +76,164 @@ public final @Monad class Maybe<T> extends FutureTask<T> {
     }
     
     
+    public Maybe<Void> thenAccept(Consumer<? super T> consumer) {
+        return thenAccept(consumer, Runnable::run);
+    }
+    
+    public Maybe<Void> thenAccept(Consumer<? super T> consumer, Executor executor) {
+        return map(value -> {
+            consumer.accept(value);
+            return null;
+        }, executor);
+    }
+    
+    public Maybe<Void> onMainThread(Consumer<? super T> consumer, TickExecutor executor) {
+        return thenAccept(consumer, task -> {
+            if (executor.isCurrentThread()) {
+                task.run();
+                
+            } else {
+                executor.execute(task);
+            }
+        });
+    }
+    
+    
+    public <U> Maybe<U> map(Function<? super T, ? extends U> function) {
+        return map(function, Runnable::run);
+    }
+    
+    public <U> Maybe<U> map(Function<? super T, ? extends U> function, Executor executor) {
+        var next = new Maybe<U>((Callable<U>) CALLABLE);
+        callback(() -> {
+            try {
+                var value = get();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            next.set(function.apply(value));
+                            
+                        } catch (Throwable e) {
+                            next.setException(e);
+                        }
+                    });
+                    
+                } catch (Throwable e) {
+                    next.setException(e);
+                }
+                
+            } catch (ExecutionException e) {
+                next.setException(e.getCause());
+                
+            } catch (CancellationException | InterruptedException e) {
+                next.cancel(false);
+            }
+        });
+        
+        return next;
+    }
+    
+    public <U> Maybe<U> flatMap(Function<? super T, ? extends Maybe<? extends U>> function) {
+        var next = new Maybe<U>((Callable<U>) CALLABLE);
+        callback(() -> {
+            try {
+                Maybe<? extends U> inner = function.apply(get());
+                inner.callback(() -> next.transfer(inner));
+                
+            } catch (ExecutionException e) {
+                next.setException(e.getCause());
+                
+            } catch (CancellationException | InterruptedException e) {
+                next.cancel(false);
+                
+            } catch (Throwable e) {
+                next.setException(e);
+            }
+        });
+        
+        return next;
+    }
+    
+    
+    public CompletableFuture<T> toCompletableFuture() {
+        var future = new CompletableFuture<T>();
+        callback(() -> {
+            try {
+                future.complete(get());
+                
+            } catch (ExecutionException e) {
+                future.completeExceptionally(e.getCause());
+                
+            } catch (CancellationException | InterruptedException e) {
+                future.cancel(false);
+            }
+        });
+        
+        return future;
+    }
+    
+    
+    void transfer(Maybe<? extends T> other) {
+        try {
+            set(other.get());
+            
+        } catch (ExecutionException e) {
+            setException(e.getCause());
+            
+        } catch (CancellationException | InterruptedException e) {
+            cancel(false);
+        }
+    }
+    
+    void callback(Runnable callback) {
+        synchronized (this) {
+            if (!completed) {
+                if (callbacks == null) {
+                    callbacks = new ArrayList<>(1);
+                }
+                callbacks.add(callback);
+                return;
+            }
+        }
+        
+        run(callback);
+    }
+    
+    static void run(Runnable callback) {
+        try {
+            callback.run();
+            
+        } catch (Throwable e) {
+            var thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+    
+    void succeed(T value) {
+        set(value);
+    }
+    
+    void fail(Throwable exception) {
+        setException(exception);
+    }
+    
+    @Override
+    protected void done() {
+        List<Runnable> callbacks;
+        synchronized (this) {
+            completed = true;
+            callbacks = this.callbacks;
+            this.callbacks = null;
+        }
+        
+        if (callbacks != null) {
+            for (var callback : callbacks) {
+                run(callback);
+            }
+        }
+    }
+    
+    
     @Blocking
     public Optional<T> some() {
         try {
@@ -25,26 +25,53 @@ package com.karuslabs.commons.util.concurrent;
 
 import com.karuslabs.annotations.Lazy;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.Consumer;
 
 public class Scheduler extends ScheduledThreadPoolExecutor {
     
+    public static final long TICK = TimeUnit.MILLISECONDS.toNanos(50);
+    
+    private final KeyedExecutor lanes = new KeyedExecutor(this);
+    final Set<Object> coalesced = ConcurrentHashMap.newKeySet();
+    final ConcurrentMap<Object, Debounce> debounced = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TaskMetrics> metrics = new ConcurrentHashMap<>();
+    private final Map<String, TaskMetrics> view = Collections.unmodifiableMap(metrics);
+    private final @Nullable ExecutorService workers;
+    
+    
+    public static Scheduler virtual(int corePoolSize) {
+        return Threads.virtual() ? new Scheduler(corePoolSize, Threads.executor("scheduler-worker")) : new Scheduler(corePoolSize);
+    }
+    
+    
     public Scheduler(int corePoolSize) {
-        super(corePoolSize);
+        this(corePoolSize, (ExecutorService) null);
     }
 
     public Scheduler(int corePoolSize, ThreadFactory threadFactory) {
         super(corePoolSize, threadFactory);
+        workers = null;
     }
     
 
     public Scheduler(int corePoolSize, RejectedExecutionHandler handler) {
         super(corePoolSize, handler);
+        workers = null;
     }
 
     public Scheduler(int corePoolSize, ThreadFactory threadFactory, RejectedExecutionHandler handler) {
         super(corePoolSize, threadFactory, handler);
+        workers = null;
+    }
+    
+    Scheduler(int corePoolSize, @Nullable ExecutorService workers) {
+        super(corePoolSize);
+        this.workers = workers;
     }
     
     
@@ -53,9 +80,172 @@ public class Scheduler extends ScheduledThreadPoolExecutor {
     }
     
     public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, TimeUnit unit, long times) {
-        return scheduleAtFixedRate(new RunnableContext(task, times), initial, period, unit);
+        return scheduleAtFixedRate(new RunnableContext(task, times, unit.toNanos(initial), unit.toNanos(period), CatchUp.UNBOUNDED, workers), initial, period, unit);
+    }
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, TimeUnit unit, CatchUp catchUp) {
+        return schedule(task, initial, period, unit, Context.INFINITE, catchUp);
+    }
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, TimeUnit unit, long times, CatchUp catchUp) {
+        return scheduleAtFixedRate(new RunnableContext(task, times, unit.toNanos(initial), unit.toNanos(period), catchUp, workers), initial, period, unit);
+    }
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, CatchUp catchUp) {
+        return schedule(task, initial, period, Context.INFINITE, catchUp);
+    }
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, long times, CatchUp catchUp) {
+        return schedule(task, initial * TICK, period * TICK, TimeUnit.NANOSECONDS, times, catchUp);
+    }
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, TimeUnit unit, Executor executor) {
+        return schedule(task, initial, period, unit, Context.INFINITE, executor);
+    }
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, TimeUnit unit, long times, Executor executor) {
+        return scheduleAtFixedRate(new RunnableContext(task, times, unit.toNanos(initial), unit.toNanos(period), CatchUp.UNBOUNDED, executor), initial, period, unit);
+    }
+    
+    
+    public ScheduledFuture<?> schedule(String name, Consumer<Context> task, long initial, long period, TimeUnit unit) {
+        return schedule(name, task, initial, period, unit, Context.INFINITE);
+    }
+    
+    public ScheduledFuture<?> schedule(String name, Consumer<Context> task, long initial, long period, TimeUnit unit, long times) {
+        var metrics = this.metrics.computeIfAbsent(name, TaskMetrics::new);
+        return scheduleAtFixedRate(new MeasuredContext(task, times, unit.toNanos(initial), unit.toNanos(period), metrics, workers), initial, period, unit);
+    }
+    
+    public ScheduledFuture<?> schedule(String name, Consumer<Context> task, long initial, long period, TimeUnit unit, Executor executor) {
+        return schedule(name, task, initial, period, unit, Context.INFINITE, executor);
+    }
+    
+    public ScheduledFuture<?> schedule(String name, Consumer<Context> task, long initial, long period, TimeUnit unit, long times, Executor executor) {
+        var metrics = this.metrics.computeIfAbsent(name, TaskMetrics::new);
+        return scheduleAtFixedRate(new MeasuredContext(task, times, unit.toNanos(initial), unit.toNanos(period), metrics, executor), initial, period, unit);
+    }
+    
+    
+    public @Nullable TaskMetrics metrics(String name) {
+        return metrics.get(name);
+    }
+    
+    public Map<String, TaskMetrics> metrics() {
+        return view;
+    }
+    
+    
+    public <T> Spread<T> spread(Iterable<? extends T> work, Consumer<? super T> step, long budget, long period, TimeUnit unit) {
+        var spread = new Spread<T>(work, step, budget, unit);
+        spread.future = schedule(spread::run, 0, period, unit);
+        return spread;
+    }
+    
+    public <T> Spread<T> spread(Iterable<? extends T> work, Consumer<? super T> step, long budget, long period, TimeUnit unit, Executor executor) {
+        var spread = new Spread<T>(work, step, budget, unit);
+        spread.future = scheduleAtFixedRate(new RunnableContext(spread::run, Context.INFINITE, 0, unit.toNanos(period), CatchUp.UNBOUNDED, executor), 0, period, unit);
+        return spread;
+    }
+    
+    
+    public Executor lane(Object key) {
+        return lanes.lane(key);
+    }
+    
+    
+    public boolean coalesce(Object key, Runnable task) {
+        if (!coalesced.add(key)) {
+            return false;
+        }
+        
+        try {
+            execute(() -> {
+                coalesced.remove(key);
+                try {
+                    task.run();
+                    
+                } catch (Throwable e) {
+                    var thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            });
+            
+        } catch (RuntimeException e) {
+            coalesced.remove(key);
+            throw e;
+        }
+        
+        // A RejectedExecutionHandler, i.e. DiscardPolicy, silently drops tasks submitted after shutdown
+        if (isShutdown()) {
+            coalesced.remove(key);
+            return false;
+        }
+        
+        return true;
+    }
+    
+    public void debounce(Object key, long delay, TimeUnit unit, Runnable task) {
+        var nanos = unit.toNanos(delay);
+        while (true) {
+            var debounce = debounced.get(key);
+            var created = debounce == null;
+            if (created) {
+                debounce = new Debounce(this, key);
+                var existing = debounced.putIfAbsent(key, debounce);
+                if (existing != null) {
+                    debounce = existing;
+                    created = false;
+                }
+            }
+            
+            if (debounce.replace(task, System.nanoTime() + nanos)) {
+                if (created) {
+                    schedule(debounce, nanos, TimeUnit.NANOSECONDS);
+                }
+                return;
+            }
+        }
+    }
+    
+    
+    public TimingWheel wheel(long tick, TimeUnit unit) {
+        var wheel = new TimingWheel(tick, unit);
+        wheel.future = scheduleAtFixedRate(wheel, tick, tick, unit);
+        return wheel;
+    }
+    
+    
+    public <T> Maybe<T> submit(Callable<T> task, Consumer<? super T> consumer, Executor executor) {
+        var maybe = new Maybe<>(task);
+        maybe.thenAccept(consumer, executor);
+        workers().execute(maybe);
+        
+        return maybe;
+    }
+    
+    
+    public Executor workers() {
+        return workers == null ? this : workers;
     }
     
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+    
+    @Override
+    public List<Runnable> shutdownNow() {
+        var tasks = super.shutdownNow();
+        if (workers != null) {
+            tasks.addAll(workers.shutdownNow());
+        }
+        return tasks;
+    }
+        
     @Override
     protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> future) {
         if (runnable instanceof RunnableContext) {
@@ -69,28 +259,103 @@ public class Scheduler extends ScheduledThreadPoolExecutor {
 
 class RunnableContext implements Context, Runnable {
     
-    private final Consumer<Context> task;
+    final Consumer<Context> task;
+    private final CatchUp catchUp;
+    final long period;
+    private final @Nullable Executor workers;
+    private final AtomicBoolean running = new AtomicBoolean();
     @Lazy Future<?> future;
     volatile long times;
+    long next;
+    long skip;
+    long burst;
+    volatile long missed;
     
     RunnableContext(Consumer<Context> task, long times) {
+        this(task, times, 0, 0, CatchUp.UNBOUNDED);
+    }
+    
+    RunnableContext(Consumer<Context> task, long times, long initial, long period, CatchUp catchUp) {
+        this(task, times, initial, period, catchUp, null);
+    }
+    
+    RunnableContext(Consumer<Context> task, long times, long initial, long period, CatchUp catchUp, @Nullable Executor workers) {
         this.task = task;
+        this.catchUp = catchUp;
+        this.period = period;
+        this.workers = workers;
         this.times = times;
+        this.next = System.nanoTime() + initial;
     }
     
     @Override
     public void run() {
-        if (times == INFINITE || times > 0) {
-            task.accept(this);
-            if (times > 0) {
-                times--;
-            }
-            
-        } else {
+        if (times != INFINITE && times <= 0) {
             cancel();
+            return;
+        }
+        
+        var due = next;
+        next += period;
+        var fired = System.nanoTime();
+        fired(fired - due);
+        
+        if (workers == null) {
+            execute(due, fired);
+            return;
+        }
+        
+        // Runs of a context never overlap, a firing is skipped while the previous run is still in progress
+        if (!running.compareAndSet(false, true)) {
+            skipped();
+            return;
+        }
+        
+        try {
+            submit(workers, () -> {
+                try {
+                    execute(due, fired);
+                    
+                } catch (Throwable e) {
+                    cancel();
+                    throw e;
+                    
+                } finally {
+                    running.set(false);
+                }
+            });
+            
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+    
+    void execute(long due, long fired) {
+        if (!catchUp.admit(this, System.nanoTime() - due)) {
+            skipped();
+            return;
+        }
+        
+        accept(fired);
+        missed = 0;
+        if (times > 0) {
+            times--;
         }
     }
     
+    void submit(Executor workers, Runnable run) {
+        workers.execute(run);
+    }
+    
+    void fired(long drift) {}
+    
+    void skipped() {}
+    
+    void accept(long fired) {
+        task.accept(this);
+    }
+    
     @Override
     public void cancel() {
         future.cancel(false);
@@ -101,6 +366,81 @@ class RunnableContext implements Context, Runnable {
         return times;
     }
     
+    @Override
+    public long missed() {
+        return missed;
+    }
+    
 }
 
+class MeasuredContext extends RunnableContext {
+    
+    private final TaskMetrics metrics;
+    
+    MeasuredContext(Consumer<Context> task, long times, long initial, long period, TaskMetrics metrics, @Nullable Executor executor) {
+        super(task, times, initial, period, CatchUp.UNBOUNDED, executor);
+        this.metrics = metrics;
+    }
+    
+    @Override
+    void fired(long drift) {
+        metrics.fire(drift);
+    }
+    
+    @Override
+    void accept(long fired) {
+        metrics.run(task, this, fired, period);
+    }
+    
+    @Override
+    void submit(Executor workers, Runnable run) {
+        metrics.dispatch(run, workers);
+    }
+    
+    @Override
+    void skipped() {
+        metrics.skip();
+    }
+    
+}
 
+class Debounce implements Runnable {
+    
+    static final Runnable RETIRED = () -> {};
+    
+    private final Scheduler scheduler;
+    private final Object key;
+    final AtomicReference<Runnable> task = new AtomicReference<>();
+    volatile long deadline;
+    
+    Debounce(Scheduler scheduler, Object key) {
+        this.scheduler = scheduler;
+        this.key = key;
+    }
+    
+    boolean replace(Runnable task, long deadline) {
+        var current = this.task.get();
+        while (current != RETIRED) {
+            if (this.task.compareAndSet(current, task)) {
+                this.deadline = deadline;
+                return true;
+            }
+            current = this.task.get();
+        }
+        
+        return false;
+    }
+    
+    @Override
+    public void run() {
+        var remaining = deadline - System.nanoTime();
+        if (remaining > 0) {
+            scheduler.schedule(this, remaining, TimeUnit.NANOSECONDS);
+            return;
+        }
+        
+        scheduler.debounced.remove(key, this);
+        task.getAndSet(RETIRED).run();
+    }
+    
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import com.karuslabs.annotations.Lazy;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+public final class Spread<T> implements Context {
+    
+    private final Iterator<? extends T> iterator;
+    private final Consumer<? super T> step;
+    private final long budget;
+    private final long total;
+    private final Maybe<Long> completion = new Maybe<>(() -> null);
+    volatile @Lazy ScheduledFuture<?> future;
+    private volatile long processed;
+    private volatile boolean cancelled;
+    
+    
+    Spread(Iterable<? extends T> work, Consumer<? super T> step, long budget, TimeUnit unit) {
+        this.iterator = work.iterator();
+        this.step = step;
+        this.budget = unit.toNanos(budget);
+        this.total = work instanceof Collection<?> ? ((Collection<?>) work).size() : INFINITE;
+    }
+    
+    
+    void run(Context context) {
+        if (cancelled) {
+            context.cancel();
+            return;
+        }
+        
+        var start = System.nanoTime();
+        var processed = this.processed;
+        try {
+            do {
+                if (!iterator.hasNext()) {
+                    this.processed = processed;
+                    completion.succeed(processed);
+                    context.cancel();
+                    return;
+                }
+                
+                step.accept(iterator.next());
+                processed++;
+                
+            } while (System.nanoTime() - start < budget && !cancelled);
+            
+            this.processed = processed;
+            
+        } catch (Throwable e) {
+            this.processed = processed;
+            completion.fail(e);
+            context.cancel();
+        }
+    }
+    
+    
+    @Override
+    public void cancel() {
+        cancelled = true;
+        completion.cancel(false);
+        
+        var future = this.future;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+    
+    @Override
+    public long times() {
+        return total == INFINITE ? INFINITE : total - processed;
+    }
+    
+    
+    public double progress() {
+        if (completion.isDone() && !completion.isCancelled()) {
+            return 1;
+        }
+        
+        return total == INFINITE || total == 0 ? 0 : (double) processed / total;
+    }
+    
+    public long processed() {
+        return processed;
+    }
+    
+    public long total() {
+        return total;
+    }
+    
+    public Maybe<Long> completion() {
+        return completion;
+    }
+    
+}
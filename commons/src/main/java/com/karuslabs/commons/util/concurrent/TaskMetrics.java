@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.Consumer;
+
+public final class TaskMetrics {
+    
+    static final boolean EVENTS = Boolean.getBoolean("com.karuslabs.commons.util.concurrent.events");
+    
+    private final String name;
+    private final Histogram queued = new Histogram();
+    private final Histogram execution = new Histogram();
+    private final Histogram drift = new Histogram();
+    private final LongAdder overruns = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    
+    
+    TaskMetrics(String name) {
+        this.name = name;
+    }
+    
+    
+    void fire(long drift) {
+        this.drift.record(drift);
+    }
+    
+    void run(Consumer<Context> task, Context context, long fired, long period) {
+        active.incrementAndGet();
+        
+        var start = System.nanoTime();
+        queued.record(start - fired);
+        try {
+            task.accept(context);
+            
+        } finally {
+            var elapsed = System.nanoTime() - start;
+            execution.record(elapsed);
+            if (elapsed > period) {
+                overruns.increment();
+            }
+            active.decrementAndGet();
+            
+            if (EVENTS) {
+                ScheduledTaskEvent.emit(name, start - fired, elapsed, elapsed > period);
+            }
+        }
+    }
+    
+    void dispatch(Runnable task, Executor executor) {
+        pending.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                pending.decrementAndGet();
+                task.run();
+            });
+            
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+    
+    void skip() {
+        skipped.increment();
+    }
+    
+    
+    public String name() {
+        return name;
+    }
+    
+    public Histogram queued() {
+        return queued;
+    }
+    
+    public Histogram execution() {
+        return execution;
+    }
+    
+    public Histogram drift() {
+        return drift;
+    }
+    
+    public long overruns() {
+        return overruns.sum();
+    }
+    
+    public long skipped() {
+        return skipped.sum();
+    }
+    
+    public int active() {
+        return active.get();
+    }
+    
+    public int pending() {
+        return pending.get();
+    }
+    
+    
+    @Override
+    public String toString() {
+        return name + "[runs=" + execution.count() + ", queued.p99=" + queued.percentile(0.99, TimeUnit.MICROSECONDS) + "us"
+             + ", execution.p99=" + execution.percentile(0.99, TimeUnit.MICROSECONDS) + "us, drift.max=" + drift.max(TimeUnit.MICROSECONDS) + "us"
+             + ", overruns=" + overruns() + ", skipped=" + skipped() + ", active=" + active() + ", pending=" + pending() + "]";
+    }
+    
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+
+public final class TickExecutor implements Executor, Runnable {
+    
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private volatile long budget;
+    private volatile Thread thread;
+    
+    
+    public TickExecutor(long budget, TimeUnit unit) {
+        budget(budget, unit);
+    }
+    
+    
+    @Override
+    public void execute(Runnable task) {
+        queue.offer(task);
+    }
+    
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        var end = System.nanoTime() + budget;
+        Runnable task;
+        do {
+            task = queue.poll();
+            if (task == null) {
+                return;
+            }
+            
+            try {
+                task.run();
+                
+            } catch (Throwable e) {
+                var thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+            
+        } while (System.nanoTime() - end < 0);
+    }
+    
+    
+    public void budget(long budget, TimeUnit unit) {
+        this.budget = unit.toNanos(budget);
+    }
+    
+    public long budget(TimeUnit unit) {
+        return unit.convert(budget, TimeUnit.NANOSECONDS);
+    }
+    
+    public boolean isCurrentThread() {
+        return thread == Thread.currentThread();
+    }
+    
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+    
+}
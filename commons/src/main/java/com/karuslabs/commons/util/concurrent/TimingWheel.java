@@ -0,0 +1,212 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class TimingWheel implements Runnable {
+    
+    private final Queue<WheelTask> pending = new ConcurrentLinkedQueue<>();
+    private final List<WheelTask>[] buckets;
+    private final List<WheelTask> rescheduled = new ArrayList<>();
+    private final int mask;
+    final long nanos;
+    volatile long tick;
+    volatile @Nullable ScheduledFuture<?> future;
+    
+    
+    public TimingWheel(long tick, TimeUnit unit) {
+        this(tick, unit, 512);
+    }
+    
+    public TimingWheel(long tick, TimeUnit unit, int buckets) {
+        var capacity = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        this.buckets = new List[capacity];
+        for (int i = 0; i < capacity; i++) {
+            this.buckets[i] = new ArrayList<>();
+        }
+        
+        this.mask = capacity - 1;
+        this.nanos = Math.max(1, unit.toNanos(tick));
+    }
+    
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period) {
+        return schedule(task, initial, period, Context.INFINITE);
+    }
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, long times) {
+        var future = new WheelTask(this, task, tick + Math.max(0, initial), Math.max(1, period), times);
+        pending.offer(future);
+        return future;
+    }
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, TimeUnit unit) {
+        return schedule(task, initial, period, unit, Context.INFINITE);
+    }
+    
+    public ScheduledFuture<?> schedule(Consumer<Context> task, long initial, long period, TimeUnit unit, long times) {
+        return schedule(task, ticks(unit.toNanos(initial)), ticks(unit.toNanos(period)), times);
+    }
+    
+    long ticks(long nanos) {
+        return nanos / this.nanos + (nanos % this.nanos == 0 ? 0 : 1);
+    }
+    
+    
+    @Override
+    public void run() {
+        var current = tick;
+        for (WheelTask task; (task = pending.poll()) != null;) {
+            if (task.deadline < current) {
+                task.deadline = current;
+            }
+            insert(task);
+        }
+        
+        var bucket = buckets[(int) (current & mask)];
+        var size = bucket.size();
+        var kept = 0;
+        for (int i = 0; i < size; i++) {
+            var task = bucket.get(i);
+            if (task.isDone()) {
+                continue;
+            }
+            
+            if (task.deadline > current) {
+                bucket.set(kept++, task);
+                
+            } else if (task.execute()) {
+                task.deadline += task.period;
+                rescheduled.add(task);
+            }
+        }
+        bucket.subList(kept, size).clear();
+        
+        for (var task : rescheduled) {
+            insert(task);
+        }
+        rescheduled.clear();
+        
+        tick = current + 1;
+    }
+    
+    void insert(WheelTask task) {
+        buckets[(int) (task.deadline & mask)].add(task);
+    }
+    
+    
+    public void cancel() {
+        var future = this.future;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+    
+}
+
+final class WheelTask extends FutureTask<Void> implements ScheduledFuture<Void>, Context {
+    
+    private final TimingWheel wheel;
+    final long period;
+    volatile long deadline;
+    volatile long times;
+    
+    WheelTask(TimingWheel wheel, Consumer<Context> task, long deadline, long period, long times) {
+        this(new Body(task), wheel, deadline, period, times);
+    }
+    
+    private WheelTask(Body body, TimingWheel wheel, long deadline, long period, long times) {
+        super(body);
+        body.context = this;
+        this.wheel = wheel;
+        this.deadline = deadline;
+        this.period = period;
+        this.times = times;
+    }
+    
+    
+    boolean execute() {
+        if (times == 0) {
+            set(null);
+            return false;
+        }
+        
+        if (!runAndReset()) {
+            return false;
+        }
+        
+        if (times > 0 && --times == 0) {
+            set(null);
+            return false;
+        }
+        
+        return true;
+    }
+    
+    
+    @Override
+    public void cancel() {
+        cancel(false);
+    }
+
+    @Override
+    public long times() {
+        return times;
+    }
+    
+    
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert((deadline - wheel.tick) * wheel.nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return other == this ? 0 : Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+    
+    
+    static final class Body implements Callable<Void> {
+        
+        private final Consumer<Context> task;
+        Context context;
+        
+        Body(Consumer<Context> task) {
+            this.task = task;
+        }
+        
+        @Override
+        public Void call() {
+            task.accept(context);
+            return null;
+        }
+        
+    }
+    
+}
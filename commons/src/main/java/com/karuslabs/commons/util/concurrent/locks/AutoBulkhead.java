@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AutoBulkhead extends Semaphore implements Holdable {
+    
+    static final double BACKOFF = 0.9;
+    
+    private final Mutex mutex;
+    private final int min;
+    private final int max;
+    private final long target;
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+    private int successes;
+    private int cooldown;
+    
+    
+    public AutoBulkhead(int limit) {
+        this(limit, limit, limit, 0, TimeUnit.NANOSECONDS);
+    }
+    
+    public AutoBulkhead(int limit, int min, int max, long target, TimeUnit unit) {
+        super(limit, true);
+        if (min < 1 || min > limit || limit > max) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= limit <= max, was " + min + ", " + limit + ", " + max);
+        }
+        
+        this.mutex = this::release;
+        this.min = min;
+        this.max = max;
+        this.target = unit.toNanos(target);
+        this.limit = limit;
+    }
+    
+    
+    @Override
+    public Mutex hold() {
+        acquireUninterruptibly();
+        return acquired();
+    }
+
+    @Override
+    public Mutex holdInterruptibly() throws InterruptedException {
+        acquire();
+        return acquired();
+    }
+    
+    public @Nullable Mutex tryHold() {
+        if (tryAcquire()) {
+            return acquired();
+        }
+        
+        rejected.increment();
+        return null;
+    }
+    
+    public @Nullable Mutex tryHold(long timeout, TimeUnit unit) throws InterruptedException {
+        if (tryAcquire(timeout, unit)) {
+            return acquired();
+        }
+        
+        rejected.increment();
+        return null;
+    }
+    
+    private Mutex acquired() {
+        if (min == max) {
+            return mutex;
+        }
+        
+        var start = System.nanoTime();
+        return () -> {
+            adjust(System.nanoTime() - start);
+            release();
+        };
+    }
+    
+    synchronized void adjust(long latency) {
+        if (cooldown > 0) {
+            cooldown--;
+        }
+        
+        if (latency > target) {
+            successes = 0;
+            if (cooldown == 0) {
+                var limit = Math.max(min, (int) (this.limit * BACKOFF));
+                reducePermits(this.limit - limit);
+                this.limit = limit;
+                cooldown = limit;
+            }
+            
+        } else if (++successes >= limit && limit < max) {
+            successes = 0;
+            limit++;
+            release();
+        }
+    }
+    
+    
+    public int limit() {
+        return limit;
+    }
+    
+    public int active() {
+        return limit - availablePermits();
+    }
+    
+    public long rejected() {
+        return rejected.sum();
+    }
+    
+}
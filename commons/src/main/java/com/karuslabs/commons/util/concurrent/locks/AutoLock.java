@@ -23,11 +23,14 @@
  */
 package com.karuslabs.commons.util.concurrent.locks;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.util.concurrent.locks.ReentrantLock;
 
 public class AutoLock extends ReentrantLock implements Holdable {
     
     private final Mutex mutex;
+    private final @Nullable LockMetrics metrics;
     
     
     public AutoLock() {
@@ -35,21 +38,39 @@ public class AutoLock extends ReentrantLock implements Holdable {
     }
     
     public AutoLock(boolean fair) {
+        this(fair, null);
+    }
+    
+    public AutoLock(boolean fair, @Nullable LockMetrics metrics) {
         super(fair);
         this.mutex = this::unlock;
+        this.metrics = metrics;
     }
     
     
     @Override
     public Mutex hold() {
+        if (metrics != null) {
+            return metrics.hold(this);
+        }
+        
         lock();
         return mutex;
     }
 
     @Override
     public Mutex holdInterruptibly() throws InterruptedException {
+        if (metrics != null) {
+            return metrics.holdInterruptibly(this);
+        }
+        
         lockInterruptibly();
         return mutex;
     }
     
+    
+    public @Nullable LockMetrics metrics() {
+        return metrics;
+    }
+    
 }
\ No newline at end of file
@@ -27,6 +27,8 @@ import com.karuslabs.annotations.Delegate;
 
 import com.karuslabs.commons.util.concurrent.locks.AutoReadWriteLock.*;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.*;
 import java.util.concurrent.locks.ReentrantReadWriteLock.*;
@@ -42,9 +44,13 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
     }
     
     public AutoReadWriteLock(boolean fair) {
+        this(fair, null, null);
+    }
+    
+    public AutoReadWriteLock(boolean fair, @Nullable LockMetrics reads, @Nullable LockMetrics writes) {
         super(fair);
-        reader = new AutoReadLock(this, super.readLock());
-        writer = new AutoWriteLock(this, super.writeLock());
+        reader = new AutoReadLock(this, super.readLock(), reads);
+        writer = new AutoWriteLock(this, super.writeLock(), writes);
     }
     
     
@@ -63,27 +69,46 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
         
         private final ReadLock lock;
         private final Mutex mutex;
+        private final @Nullable LockMetrics metrics;
 
         protected AutoReadLock(ReentrantReadWriteLock owner, ReadLock lock) {
+            this(owner, lock, null);
+        }
+        
+        protected AutoReadLock(ReentrantReadWriteLock owner, ReadLock lock, @Nullable LockMetrics metrics) {
             super(owner);
             this.lock = lock;
             this.mutex = lock::unlock;
+            this.metrics = metrics;
         }
         
         
         @Override
         public Mutex hold() {
+            if (metrics != null) {
+                return metrics.hold(lock);
+            }
+            
             lock();
             return mutex;
         }
 
         @Override
         public Mutex holdInterruptibly() throws InterruptedException {
+            if (metrics != null) {
+                return metrics.holdInterruptibly(lock);
+            }
+            
             lockInterruptibly();
             return mutex;
         }
         
         
+        public @Nullable LockMetrics metrics() {
+            return metrics;
+        }
+        
+        
         @Override
         public void lock() {
             lock.lock();
@@ -125,27 +150,46 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
         
         private final WriteLock lock;
         private final Mutex mutex;
+        private final @Nullable LockMetrics metrics;
         
         protected AutoWriteLock(ReentrantReadWriteLock owner, WriteLock lock) {
+            this(owner, lock, null);
+        }
+        
+        protected AutoWriteLock(ReentrantReadWriteLock owner, WriteLock lock, @Nullable LockMetrics metrics) {
             super(owner);
             this.lock = lock;
             this.mutex = lock::unlock;
+            this.metrics = metrics;
         }
         
         
         @Override
         public Mutex hold() {
+            if (metrics != null) {
+                return metrics.hold(lock);
+            }
+            
             lock();
             return mutex;
         }
 
         @Override
         public Mutex holdInterruptibly() throws InterruptedException {
+            if (metrics != null) {
+                return metrics.holdInterruptibly(lock);
+            }
+            
             lockInterruptibly();
             return mutex;
         }
         
         
+        public @Nullable LockMetrics metrics() {
+            return metrics;
+        }
+        
+        
         @Override
         public int getHoldCount() {
             return lock.getHoldCount();
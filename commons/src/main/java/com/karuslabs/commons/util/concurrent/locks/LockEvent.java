@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import jdk.jfr.*;
+
+@Name("com.karuslabs.commons.Lock")
+@Label("Lock Hold")
+@Category({"Chimera", "Locks"})
+class LockEvent extends Event {
+    
+    static void emit(String lock, long wait, long hold, boolean contended) {
+        var event = new LockEvent();
+        if (event.shouldCommit()) {
+            event.lock = lock;
+            event.wait = wait;
+            event.hold = hold;
+            event.contended = contended;
+            event.commit();
+        }
+    }
+    
+    
+    @Label("Lock")
+    String lock;
+    
+    @Label("Wait")
+    @Timespan
+    long wait;
+    
+    @Label("Hold")
+    @Timespan
+    long hold;
+    
+    @Label("Contended")
+    boolean contended;
+    
+}
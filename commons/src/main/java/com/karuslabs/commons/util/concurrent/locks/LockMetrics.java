@@ -0,0 +1,215 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import com.karuslabs.commons.util.concurrent.Histogram;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+public final class LockMetrics {
+    
+    static final boolean EVENTS = Boolean.getBoolean("com.karuslabs.commons.util.concurrent.events");
+    static final int HOLDERS = 8;
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    
+    private final String name;
+    private final Histogram waited = new Histogram();
+    private final Histogram held = new Histogram();
+    private final LongAdder contended = new LongAdder();
+    private final Holder[] holders = new Holder[HOLDERS];
+    private volatile long threshold;
+    
+    
+    public LockMetrics(String name) {
+        this.name = name;
+    }
+    
+    
+    Mutex hold(Lock lock) {
+        var start = System.nanoTime();
+        boolean contended;
+        try {
+            // Unlike tryLock(), a timed tryLock respects the fairness policy of the lock
+            contended = !lock.tryLock(0, TimeUnit.NANOSECONDS);
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            contended = true;
+        }
+        
+        if (contended) {
+            this.contended.increment();
+            lock.lock();
+        }
+        
+        return acquired(lock, start, contended);
+    }
+    
+    Mutex holdInterruptibly(Lock lock) throws InterruptedException {
+        var start = System.nanoTime();
+        var contended = !lock.tryLock(0, TimeUnit.NANOSECONDS);
+        if (contended) {
+            this.contended.increment();
+            lock.lockInterruptibly();
+        }
+        
+        return acquired(lock, start, contended);
+    }
+    
+    private Mutex acquired(Lock lock, long start, boolean contended) {
+        var acquired = System.nanoTime();
+        waited.record(acquired - start);
+        
+        return () -> {
+            var held = System.nanoTime() - acquired;
+            lock.unlock();
+            release(acquired - start, held, contended);
+        };
+    }
+    
+    void release(long waited, long held, boolean contended) {
+        this.held.record(held);
+        if (held > threshold) {
+            holder(held);
+        }
+        
+        if (EVENTS) {
+            LockEvent.emit(name, waited, held, contended);
+        }
+    }
+    
+    private void holder(long held) {
+        var site = WALKER.walk(frames -> frames.filter(frame -> !frame.getClassName().equals(LockMetrics.class.getName()))
+                                               .findFirst()
+                                               .map(StackWalker.StackFrame::toStackTraceElement)
+                                               .orElse(null));
+        var holder = new Holder(Thread.currentThread().getName(), site, held);
+        
+        synchronized (holders) {
+            var min = 0;
+            for (int i = 0; i < HOLDERS; i++) {
+                if (holders[i] == null) {
+                    min = i;
+                    break;
+                }
+                
+                if (holders[i].nanos < holders[min].nanos) {
+                    min = i;
+                }
+            }
+            
+            if (holders[min] == null || holders[min].nanos < held) {
+                holders[min] = holder;
+            }
+            
+            var threshold = Long.MAX_VALUE;
+            for (var current : holders) {
+                threshold = current == null ? 0 : Math.min(threshold, current.nanos);
+                if (threshold == 0) {
+                    break;
+                }
+            }
+            this.threshold = threshold;
+        }
+    }
+    
+    
+    public String name() {
+        return name;
+    }
+    
+    public Histogram waited() {
+        return waited;
+    }
+    
+    public Histogram held() {
+        return held;
+    }
+    
+    public long acquisitions() {
+        return waited.count();
+    }
+    
+    public long contended() {
+        return contended.sum();
+    }
+    
+    public List<Holder> holders() {
+        var holders = new ArrayList<Holder>(HOLDERS);
+        synchronized (this.holders) {
+            for (var holder : this.holders) {
+                if (holder != null) {
+                    holders.add(holder);
+                }
+            }
+        }
+        
+        holders.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+        return Collections.unmodifiableList(holders);
+    }
+    
+    
+    @Override
+    public String toString() {
+        return name + "[acquisitions=" + acquisitions() + ", contended=" + contended() 
+             + ", waited.p99=" + waited.percentile(0.99, TimeUnit.MICROSECONDS) + "us, held.p99=" + held.percentile(0.99, TimeUnit.MICROSECONDS) + "us"
+             + ", held.max=" + held.max(TimeUnit.MICROSECONDS) + "us]";
+    }
+    
+    
+    public static final class Holder {
+        
+        private final String thread;
+        private final StackTraceElement site;
+        final long nanos;
+        
+        Holder(String thread, StackTraceElement site, long nanos) {
+            this.thread = thread;
+            this.site = site;
+            this.nanos = nanos;
+        }
+        
+        public String thread() {
+            return thread;
+        }
+        
+        public StackTraceElement site() {
+            return site;
+        }
+        
+        public long time(TimeUnit unit) {
+            return unit.convert(nanos, TimeUnit.NANOSECONDS);
+        }
+        
+        @Override
+        public String toString() {
+            return thread + " held for " + time(TimeUnit.MICROSECONDS) + "us at " + site;
+        }
+        
+    }
+    
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.Arrays;
+import java.util.function.*;
+
+public class Striped<T> {
+    
+    public static Striped<AutoReadWriteLock> readWriteLocks(int stripes) {
+        return new Striped<>(stripes, AutoReadWriteLock::new);
+    }
+    
+    public static Striped<AutoStampedLock> stampedLocks(int stripes) {
+        return new Striped<>(stripes, AutoStampedLock::new);
+    }
+    
+    
+    private final Object[] stripes;
+    private final int mask;
+    
+    
+    public Striped(int stripes, Supplier<? extends T> supplier) {
+        var capacity = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Object[capacity];
+        for (int i = 0; i < capacity; i++) {
+            this.stripes[i] = supplier.get();
+        }
+        
+        this.mask = capacity - 1;
+    }
+    
+    
+    public T get(Object key) {
+        return at(index(key));
+    }
+    
+    public T at(int index) {
+        return (T) stripes[index];
+    }
+    
+    public int index(Object key) {
+        var hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+    
+    
+    public Mutex holdAll(Function<? super T, ? extends Holdable> lock, Object... keys) {
+        var indexes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            indexes[i] = index(keys[i]);
+        }
+        Arrays.sort(indexes);
+        
+        var count = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            if (i == 0 || indexes[i] != indexes[i - 1]) {
+                indexes[count++] = indexes[i];
+            }
+        }
+        
+        var mutexes = new Mutex[count];
+        var held = 0;
+        try {
+            for (; held < count; held++) {
+                mutexes[held] = lock.apply(at(indexes[held])).hold();
+            }
+            
+        } catch (RuntimeException | Error e) {
+            release(mutexes, held);
+            throw e;
+        }
+        
+        return () -> release(mutexes, mutexes.length);
+    }
+    
+    static void release(Mutex[] mutexes, int held) {
+        for (int i = held - 1; i >= 0; i--) {
+            mutexes[i].close();
+        }
+    }
+    
+    
+    public int size() {
+        return stripes.length;
+    }
+    
+}
@@ -0,0 +1,156 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command;
+
+import com.mojang.brigadier.LiteralMessage;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+
+import net.minecraft.server.v1_16_R3.*;
+
+import org.bukkit.Server;
+import org.bukkit.command.CommandSender;
+import org.bukkit.craftbukkit.v1_16_R3.entity.CraftPlayer;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+class AsyncExecutionTest {
+    
+    CommandListenerWrapper listener = mock(CommandListenerWrapper.class);
+    EntityPlayer player = when(mock(EntityPlayer.class).getCommandListener()).thenReturn(listener).getMock();
+    CommandSender sender = when(mock(CraftPlayer.class).getHandle()).thenReturn(player).getMock();
+    CommandContext<CommandSender> context = mock(CommandContext.class);
+    
+    Deque<Runnable> tasks = new ArrayDeque<>();
+    Executor executor = tasks::add;
+    Executor main = Runnable::run;
+    
+    
+    @Test
+    void main_primary_thread() {
+        var server = mock(Server.class);
+        var plugin = mock(Plugin.class);
+        var task = mock(Runnable.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(server.isPrimaryThread()).thenReturn(true);
+        
+        AsyncExecution.main(plugin).execute(task);
+        
+        verify(task).run();
+    }
+    
+    
+    @Test
+    void main_other_thread() {
+        var scheduler = mock(BukkitScheduler.class);
+        var server = mock(Server.class);
+        var plugin = mock(Plugin.class);
+        var task = mock(Runnable.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getScheduler()).thenReturn(scheduler);
+        
+        AsyncExecution.main(plugin).execute(task);
+        
+        verify(scheduler).runTask(plugin, task);
+        verifyNoInteractions(task);
+    }
+    
+    
+    @Test
+    void async() throws CommandSyntaxException {
+        var handoff = new Executor[1];
+        AsyncExecution<CommandSender> execution = (source, context, main) -> handoff[0] = main;
+        
+        execution.async(executor, main).run(context);
+        
+        assertNull(handoff[0]);
+        assertEquals(1, tasks.size());
+        
+        tasks.poll().run();
+        
+        assertSame(main, handoff[0]);
+    }
+    
+    
+    @Test
+    void async_CommandSyntaxException() throws CommandSyntaxException {
+        when(context.getSource()).thenReturn(sender);
+        AsyncExecution<CommandSender> execution = (source, context, main) -> {
+            throw new CommandSyntaxException(null, new LiteralMessage("message"), "abc", 2);
+        };
+        
+        execution.async(executor, main).run(context);
+        tasks.poll().run();
+        
+        verify(listener, times(2)).sendFailureMessage(any());
+    }
+    
+    
+    @Test
+    void async_Exception() throws CommandSyntaxException {
+        when(context.getSource()).thenReturn(sender);
+        AsyncExecution<CommandSender> execution = (source, context, main) -> {
+            throw new IllegalStateException();
+        };
+        
+        execution.async(executor, main).run(context);
+        tasks.poll().run();
+        
+        verify(listener, times(1)).sendFailureMessage(any());
+    }
+    
+    
+    @Test
+    void async_Exception_unknown_source() throws CommandSyntaxException {
+        var exception = new IllegalStateException();
+        var handler = mock(Thread.UncaughtExceptionHandler.class);
+        var thread = Thread.currentThread();
+        var original = thread.getUncaughtExceptionHandler();
+        
+        AsyncExecution<Object> execution = (source, context, main) -> {
+            throw exception;
+        };
+        
+        execution.async(executor, main).run(mock(CommandContext.class));
+        try {
+            thread.setUncaughtExceptionHandler(handler);
+            tasks.poll().run();
+            
+        } finally {
+            thread.setUncaughtExceptionHandler(original);
+        }
+        
+        verify(handler).uncaughtException(thread, exception);
+    }
+    
+}
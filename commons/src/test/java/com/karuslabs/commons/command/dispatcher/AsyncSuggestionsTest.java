@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.dispatcher;
+
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.minecraft.server.v1_16_R3.CommandListenerWrapper;
+
+import org.bukkit.command.CommandSender;
+
+import org.junit.jupiter.api.*;
+
+import static java.util.concurrent.TimeUnit.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+class AsyncSuggestionsTest {
+    
+    CommandSender sender = mock(CommandSender.class);
+    CommandListenerWrapper listener = when(mock(CommandListenerWrapper.class).getBukkitSender()).thenReturn(sender).getMock();
+    SuggestionsBuilder builder = new SuggestionsBuilder("/a b", 3);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    AsyncSuggestions suggestions = new AsyncSuggestions(executor, 1, SECONDS);
+    
+    
+    @AfterEach
+    void after() {
+        executor.shutdownNow();
+    }
+    
+    
+    @Test
+    void constructor_throws_exception() {
+        assertEquals("Deadline must be positive, was 0", assertThrows(IllegalArgumentException.class, () -> new AsyncSuggestions(executor, 0, SECONDS)).getMessage());
+    }
+    
+    
+    @Test
+    void suggest() throws InterruptedException, ExecutionException, TimeoutException {
+        var future = suggestions.suggest(context("/a b"), builder, (context, builder) -> builder.suggest("bee").buildFuture());
+        
+        assertEquals("bee", future.get(1, SECONDS).getList().get(0).getText());
+        assertEquals(0, suggestions.pending());
+    }
+    
+    
+    @Test
+    void suggest_same_request() throws InterruptedException, ExecutionException, TimeoutException {
+        var pending = new CompletableFuture<Suggestions>();
+        
+        var first = suggestions.suggest(context("/a b"), builder, (context, builder) -> pending);
+        var second = suggestions.suggest(context("/a b"), new SuggestionsBuilder("/a b", 3), (context, builder) -> builder.suggest("bee").buildFuture());
+        
+        second.get(1, SECONDS);
+        
+        assertFalse(first.isDone());
+        assertEquals(1, suggestions.pending());
+    }
+    
+    
+    @Test
+    void suggest_supersedes() throws InterruptedException, ExecutionException, TimeoutException {
+        var pending = new CompletableFuture<Suggestions>();
+        var started = new CountDownLatch(1);
+        
+        var first = suggestions.suggest(context("/a b"), builder, (context, builder) -> {
+            started.countDown();
+            return pending;
+        });
+        started.await(1, SECONDS);
+        
+        var second = suggestions.suggest(context("/a be"), new SuggestionsBuilder("/a be", 3), (context, builder) -> builder.suggest("bee").buildFuture());
+        
+        assertTrue(first.isCancelled());
+        assertTrue(pending.isCancelled());
+        assertEquals("bee", second.get(1, SECONDS).getList().get(0).getText());
+    }
+    
+    
+    @Test
+    void suggest_deadline() throws InterruptedException, ExecutionException, TimeoutException {
+        var suggestions = new AsyncSuggestions(executor, 50, MILLISECONDS);
+        
+        var future = suggestions.suggest(context("/a b"), builder, (context, builder) -> {
+            builder.suggest("bee");
+            return new CompletableFuture<>();
+        });
+        
+        assertEquals("bee", future.get(1, SECONDS).getList().get(0).getText());
+        assertEquals(0, suggestions.pending());
+    }
+    
+    
+    @Test
+    void suggest_private_builder() throws InterruptedException, ExecutionException, TimeoutException {
+        var future = suggestions.suggest(context("/a b"), builder, (context, builder) -> {
+            assertTrue(builder instanceof AsyncSuggestions.Partial);
+            return builder.suggest("bee").buildFuture();
+        });
+        
+        assertEquals("bee", future.get(1, SECONDS).getList().get(0).getText());
+        assertTrue(builder.build().isEmpty());
+    }
+    
+    
+    @Test
+    void suggest_exception() throws InterruptedException, ExecutionException, TimeoutException {
+        var future = suggestions.suggest(context("/a b"), builder, (context, builder) -> {
+            throw new IllegalStateException();
+        });
+        
+        assertTrue(future.get(1, SECONDS).isEmpty());
+    }
+    
+    
+    CommandContext<CommandListenerWrapper> context(String input) {
+        CommandContext<CommandListenerWrapper> context = when(mock(CommandContext.class).getSource()).thenReturn(listener).getMock();
+        when(context.getInput()).thenReturn(input);
+        return context;
+    }
+    
+}
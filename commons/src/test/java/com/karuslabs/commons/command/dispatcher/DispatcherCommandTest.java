@@ -78,6 +78,31 @@ class DispatcherCommandTest {
     }
     
     
+    @Test
+    void execute_no_arguments() throws CommandSyntaxException {
+        doReturn(true).when(command).testPermission(sender);
+        var captor = ArgumentCaptor.forClass(StringReader.class);
+        
+        assertTrue(command.execute(sender, "command"));
+        verify(dispatcher).execute(captor.capture(), eq(sender));
+        
+        var reader = captor.getValue();
+        
+        assertEquals("/command", reader.getString());
+        assertEquals("command", reader.getRemaining());
+    }
+    
+    
+    @Test
+    void join() {
+        var large = "a".repeat(DispatcherCommand.RETAINED);
+        
+        assertEquals("/command " + large, DispatcherCommand.join("command", new String[] {large}));
+        assertEquals("/command a b", DispatcherCommand.join("command", new String[] {"a", "b"}));
+        assertEquals(DispatcherCommand.RETAINED, DispatcherCommand.BUILDER.get().capacity());
+    }
+    
+    
     @Test
     void execute_CommandSyntaxException() throws CommandSyntaxException {
         doReturn(true).when(command).testPermission(sender);
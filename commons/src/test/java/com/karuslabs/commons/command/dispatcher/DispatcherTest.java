@@ -25,6 +25,8 @@ package com.karuslabs.commons.command.dispatcher;
 
 import com.karuslabs.commons.command.tree.nodes.*;
 
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.tree.CommandNode;
 
 import java.util.*;
@@ -32,6 +34,7 @@ import java.util.*;
 import net.minecraft.server.v1_16_R3.*;
 
 import org.bukkit.command.CommandSender;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.*;
 
 import org.bukkit.craftbukkit.v1_16_R3.CraftServer;
@@ -102,6 +105,44 @@ class DispatcherTest {
     }
     
     
+    @Test
+    void execute_cache() throws CommandSyntaxException {
+        var sender = mock(CommandSender.class);
+        var cache = new ParseCache(4);
+        dispatcher.register(Literal.of("a").executes(context -> 2));
+        dispatcher.cache(cache);
+        
+        assertEquals(2, dispatcher.execute(new StringReader("a"), sender));
+        assertEquals(2, dispatcher.execute(new StringReader("a"), sender));
+        assertSame(cache, dispatcher.cache());
+        assertEquals(1, cache.size());
+        verify(dispatcher, times(1)).parse(any(StringReader.class), eq(sender));
+    }
+    
+    
+    @Test
+    void execute_no_cache() throws CommandSyntaxException {
+        var sender = mock(CommandSender.class);
+        dispatcher.register(Literal.of("a").executes(context -> 2));
+        
+        assertEquals(2, dispatcher.execute(new StringReader("a"), sender));
+        assertEquals(2, dispatcher.execute(new StringReader("a"), sender));
+        assertNull(dispatcher.cache());
+        verify(dispatcher, times(2)).parse(any(StringReader.class), eq(sender));
+    }
+    
+    
+    @Test
+    void suggestions() {
+        var suggestions = mock(AsyncSuggestions.class);
+        
+        dispatcher.suggestions(suggestions);
+        
+        assertSame(suggestions, dispatcher.suggestions());
+        assertSame(suggestions, dispatcher.mapper.suggestions);
+    }
+    
+    
     @Test
     void update() {
         var player = mock(CraftPlayer.class);
@@ -117,6 +158,64 @@ class DispatcherTest {
     }
     
     
+    @Test
+    void update_unchanged() {
+        var player = mock(CraftPlayer.class);
+        when(craftserver.getOnlinePlayers()).thenReturn(List.of(player));
+        
+        dispatcher.getRoot().addChild(Literal.of("a").build());
+        dispatcher.update();
+        var a = dispatcher.dispatcher.getRoot().getChild("a");
+        dispatcher.update();
+        
+        assertSame(a, dispatcher.dispatcher.getRoot().getChild("a"));
+        verify(player, times(2)).updateCommands();
+    }
+    
+    
+    @Test
+    void update_removed() {
+        dispatcher.getRoot().addChild(Literal.of("a").build());
+        dispatcher.getRoot().addChild(Literal.of("b").build());
+        dispatcher.update();
+        
+        var b = dispatcher.dispatcher.getRoot().getChild("b");
+        dispatcher.getRoot().removeChild("a");
+        dispatcher.update();
+        
+        assertNull(dispatcher.dispatcher.getRoot().getChild("a"));
+        assertSame(b, dispatcher.dispatcher.getRoot().getChild("b"));
+    }
+    
+    
+    @Test
+    void update_nested_removed() {
+        var a = Literal.of("a").then(Literal.of("child")).build();
+        dispatcher.getRoot().addChild(a);
+        dispatcher.update();
+        dispatcher.walker = spy(dispatcher.walker);
+        
+        a.removeChild("child");
+        dispatcher.update();
+        
+        assertNull(dispatcher.dispatcher.getRoot().getChild("a").getChild("child"));
+        verify(dispatcher.walker).retain(any());
+    }
+    
+    
+    @Test
+    void quit() {
+        var player = mock(CraftPlayer.class);
+        var event = mock(PlayerQuitEvent.class);
+        when(event.getPlayer()).thenReturn(player);
+        dispatcher.mapper = mock(SpigotMapper.class);
+        
+        dispatcher.quit(event);
+        
+        verify(dispatcher.mapper).forget(player);
+    }
+    
+    
     @Test
     void update_server_reload() {
         dispatcher.getRoot().addChild(Literal.of("a").build());
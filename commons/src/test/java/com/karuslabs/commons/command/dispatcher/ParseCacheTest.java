@@ -0,0 +1,224 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.dispatcher;
+
+import com.karuslabs.commons.MockServer;
+import com.karuslabs.commons.command.tree.nodes.*;
+import com.karuslabs.commons.command.types.*;
+
+import com.mojang.brigadier.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bukkit.*;
+import org.bukkit.command.*;
+import org.bukkit.entity.Player;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+class ParseCacheTest {
+    
+    PlatformMap map = when(mock(PlatformMap.class).register(any())).thenReturn(new DispatcherCommand("a", null, null, null, List.of())).getMock();
+    Root root = new Root("test", map);
+    CommandDispatcher<CommandSender> dispatcher = spy(new CommandDispatcher<>(root));
+    CommandSender sender = mock(CommandSender.class);
+    ParseCache cache = new ParseCache(2);
+    
+    
+    ParseCacheTest() {
+        root.addChild(Literal.of("a").executes(context -> 1).build());
+    }
+    
+    
+    @Test
+    void parse() {
+        var first = cache.parse(dispatcher, new StringReader("a"), sender);
+        var second = cache.parse(dispatcher, new StringReader("a"), sender);
+        
+        assertSame(first, second);
+        assertEquals(1, cache.size());
+        verify(dispatcher, times(1)).parse(any(StringReader.class), eq(sender));
+    }
+    
+    
+    @Test
+    void parse_cursor() {
+        var reader = new StringReader("/a");
+        reader.skip();
+        
+        var results = cache.parse(dispatcher, reader, sender);
+        
+        assertEquals(1, reader.getCursor());
+        assertTrue(results.getExceptions().isEmpty());
+        assertNotSame(results, cache.parse(dispatcher, new StringReader("/a"), sender));
+    }
+    
+    
+    @Test
+    void parse_block_senders() {
+        var first = mock(BlockCommandSender.class);
+        var second = mock(BlockCommandSender.class);
+        
+        var results = cache.parse(dispatcher, new StringReader("a"), first);
+        var rebound = cache.parse(dispatcher, new StringReader("a"), second);
+        
+        assertNotSame(results, rebound);
+        assertSame(second, rebound.getContext().getSource());
+        assertSame(results.getReader(), rebound.getReader());
+        verify(dispatcher, times(1)).parse(any(StringReader.class), any(CommandSender.class));
+    }
+    
+    
+    @Test
+    void parse_different_senders() {
+        cache.parse(dispatcher, new StringReader("a"), sender);
+        cache.parse(dispatcher, new StringReader("a"), mock(CommandSender.class));
+        
+        assertEquals(2, cache.size());
+    }
+    
+    
+    @Test
+    void parse_tree_changed() {
+        cache.parse(dispatcher, new StringReader("a"), sender);
+        
+        root.removeChild("a");
+        var results = cache.parse(dispatcher, new StringReader("a"), sender);
+        
+        assertNull(results.getContext().getCommand());
+        assertEquals(0, cache.size());
+        verify(dispatcher, times(2)).parse(any(StringReader.class), eq(sender));
+    }
+    
+    
+    @Test
+    void parse_nested_changed() {
+        var command = (Literal<CommandSender>) root.getChild("a");
+        cache.parse(dispatcher, new StringReader("a"), sender);
+        
+        com.mojang.brigadier.Command<CommandSender> replacement = context -> 2;
+        command.setCommand(replacement);
+        var results = cache.parse(dispatcher, new StringReader("a"), sender);
+        
+        assertSame(replacement, results.getContext().getCommand());
+        verify(dispatcher, times(2)).parse(any(StringReader.class), eq(sender));
+    }
+    
+    
+    @Test
+    void parse_requirement_revoked() {
+        var allowed = new AtomicBoolean(true);
+        root.addChild(Literal.of("b").requires(source -> allowed.get()).executes(context -> 1).build());
+        
+        assertNotNull(cache.parse(dispatcher, new StringReader("b"), sender).getContext().getCommand());
+        
+        allowed.set(false);
+        var results = cache.parse(dispatcher, new StringReader("b"), sender);
+        
+        assertNull(results.getContext().getCommand());
+        assertEquals(0, cache.size());
+        verify(dispatcher, times(2)).parse(any(StringReader.class), eq(sender));
+    }
+    
+    
+    @Test
+    void parse_stale_type() throws ReflectiveOperationException {
+        Player first = mock(Player.class);
+        Player second = mock(Player.class);
+        Server server = when(mock(MockServer.class).getPlayerExact("Steve")).thenReturn(first, second).getMock();
+        
+        var field = Bukkit.class.getDeclaredField("server");
+        field.setAccessible(true);
+        var previous = field.get(null);
+        field.set(null, server);
+        
+        try {
+            root.addChild(Literal.of("heal").then(Argument.of("player", new PlayerType()).executes(context -> 1)).build());
+            
+            var stale = cache.parse(dispatcher, new StringReader("heal Steve"), sender);
+            var fresh = cache.parse(dispatcher, new StringReader("heal Steve"), sender);
+            
+            assertSame(first, stale.getContext().getArguments().get("player").getResult());
+            assertSame(second, fresh.getContext().getArguments().get("player").getResult());
+            assertEquals(0, cache.size());
+            
+        } finally {
+            field.set(null, previous);
+        }
+    }
+    
+    
+    @Test
+    void parse_cacheable_type() {
+        root.addChild(Literal.of("find").then(Argument.of("id", UUIDType.of()).executes(context -> 1)).build());
+        
+        cache.parse(dispatcher, new StringReader("find 123e4567-e89b-12d3-a456-426614174000"), sender);
+        cache.parse(dispatcher, new StringReader("find 123e4567-e89b-12d3-a456-426614174000"), sender);
+        
+        assertEquals(1, cache.size());
+        verify(dispatcher, times(1)).parse(any(StringReader.class), eq(sender));
+    }
+    
+    
+    @Test
+    void parse_failure() {
+        cache.parse(dispatcher, new StringReader("unknown"), sender);
+        cache.parse(dispatcher, new StringReader("unknown"), sender);
+        
+        assertEquals(0, cache.size());
+        verify(dispatcher, times(2)).parse(any(StringReader.class), eq(sender));
+    }
+    
+    
+    @Test
+    void parse_evicts_eldest() {
+        root.addChild(Literal.of("b").executes(context -> 1).build());
+        root.addChild(Literal.of("c").executes(context -> 1).build());
+        
+        cache.parse(dispatcher, new StringReader("a"), sender);
+        cache.parse(dispatcher, new StringReader("b"), sender);
+        cache.parse(dispatcher, new StringReader("a"), sender);
+        cache.parse(dispatcher, new StringReader("c"), sender);
+        cache.parse(dispatcher, new StringReader("a"), sender);
+        
+        assertEquals(2, cache.size());
+        verify(dispatcher, times(3)).parse(any(StringReader.class), eq(sender));
+    }
+    
+    
+    @Test
+    void clear() {
+        cache.parse(dispatcher, new StringReader("a"), sender);
+        
+        cache.clear();
+        
+        assertEquals(0, cache.size());
+    }
+    
+}
@@ -33,6 +33,7 @@ import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.suggestion.*;
 
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -112,6 +113,20 @@ class SpigotMapperTest {
     }
     
     
+    @Test
+    void async() throws CommandSyntaxException {
+        var suggestions = mock(AsyncSuggestions.class);
+        var context = context(listener, "/a");
+        var builder = mock(SuggestionsBuilder.class);
+        
+        mapper.async(PROVIDER).getSuggestions(context, builder);
+        mapper.suggestions = suggestions;
+        mapper.async(PROVIDER).getSuggestions(context, builder);
+        
+        verify(suggestions).suggest(context, builder, PROVIDER);
+    }
+    
+    
     @ParameterizedTest
     @MethodSource("command_parameters")
     void reparse_type(String command, String trimmed) throws CommandSyntaxException {
@@ -143,6 +158,79 @@ class SpigotMapperTest {
         verify(provider).getSuggestions(any(CommandContext.class), eq(builder));
     }
     
+    @Test
+    void reparse_cached() {
+        var context = context(listener, "/a");
+        
+        var reparsed = mapper.reparse(context);
+        
+        assertSame(reparsed, mapper.reparse(context));
+        assertNotSame(reparsed, mapper.reparse(context(listener, "/a b")));
+        verify(dispatcher, times(2)).parse(any(String.class), eq(sender));
+    }
+    
+    
+    @Test
+    void reparse_senders() {
+        var other = mock(CommandSender.class);
+        CommandListenerWrapper wrapper = when(mock(CommandListenerWrapper.class).getBukkitSender()).thenReturn(other).getMock();
+        
+        mapper.reparse(context(listener, "/a"));
+        mapper.reparse(context(wrapper, "/a"));
+        mapper.reparse(context(listener, "/a"));
+        
+        verify(dispatcher).parse("a", sender);
+        verify(dispatcher).parse("a", other);
+    }
+    
+    
+    @Test
+    void reparse_tree_changed() {
+        PlatformMap map = when(mock(PlatformMap.class).register(any())).thenReturn(new DispatcherCommand("a", null, null, null, List.of())).getMock();
+        var root = new Root("test", map);
+        var dispatcher = spy(new CommandDispatcher<>(root));
+        var mapper = new SpigotMapper(dispatcher);
+        var context = context(listener, "/a");
+        
+        mapper.reparse(context);
+        root.addChild(Literal.of("a").build());
+        mapper.reparse(context);
+        
+        verify(dispatcher, times(2)).parse("a", sender);
+    }
+    
+    
+    @Test
+    void reparse_nested_changed() {
+        var a = Literal.of("a").build();
+        dispatcher.getRoot().addChild(a);
+        var context = context(listener, "/a");
+        
+        mapper.reparse(context);
+        a.addChild(Literal.of("b").build());
+        mapper.reparse(context);
+        
+        verify(dispatcher, times(2)).parse("a", sender);
+    }
+    
+    
+    @Test
+    void forget() {
+        var context = context(listener, "/a");
+        
+        mapper.reparse(context);
+        mapper.forget(sender);
+        mapper.reparse(context);
+        
+        verify(dispatcher, times(2)).parse("a", sender);
+    }
+    
+    CommandContext<CommandListenerWrapper> context(CommandListenerWrapper listener, String input) {
+        CommandContext<CommandListenerWrapper> context = when(mock(CommandContext.class).getSource()).thenReturn(listener).getMock();
+        when(context.getInput()).thenReturn(input);
+        return context;
+    }
+    
     static Stream<Arguments> command_parameters() {
         return Stream.of(
             of("/command", "command"),
@@ -44,7 +44,8 @@ class TreeWalkerTest {
     
     static Literal<String> mapped = Literal.<String>builder("child").build();
     
-    TreeWalker<String, String> tree = spy(new TreeWalker(spy(new Mapper<>())));
+    Mapper<String, String> mapper = spy(new Mapper<>());
+    TreeWalker<String, String> tree = spy(new TreeWalker(mapper));
     RootCommandNode<String> root = new RootCommandNode<>();
     Literal<String> literal = Literal.<String>builder("parent").then(Literal.<String>builder("child").build()).build();
     List<CommandNode<String>> commands = List.of(
@@ -65,6 +66,71 @@ class TreeWalkerTest {
     }
     
     
+    @Test
+    void prune_memoized() {
+        tree.prune(root, List.of(literal));
+        var mapped = root.getChild("parent");
+        
+        tree.prune(new RootCommandNode<>(), List.of(literal));
+        
+        assertSame(mapped, tree.memoized.get(literal).result);
+        verify(mapper, times(2)).map(any());
+    }
+    
+    
+    @Test
+    void prune_modified() {
+        tree.prune(root, List.of(literal));
+        var parent = root.getChild("parent");
+        var child = parent.getChild("child");
+        
+        literal.addChild(Literal.<String>builder("other").build());
+        tree.prune(root, List.of(literal));
+        
+        assertNotSame(parent, root.getChild("parent"));
+        assertSame(child, root.getChild("parent").getChild("child"));
+        assertNotNull(root.getChild("parent").getChild("other"));
+    }
+    
+    
+    @Test
+    void prune_merged() {
+        tree.prune(root, List.of(literal));
+        var parent = root.getChild("parent");
+        
+        root.addChild(LiteralArgumentBuilder.<String>literal("parent").then(LiteralArgumentBuilder.literal("wrapper")).executes(context -> 1).build());
+        assertNotNull(parent.getChild("wrapper"));
+        
+        tree.prune(root, List.of(literal));
+        
+        assertNotSame(parent, root.getChild("parent"));
+        assertNull(root.getChild("parent").getChild("wrapper"));
+        assertNull(root.getChild("parent").getCommand());
+    }
+    
+    
+    @Test
+    void prune_untracked() {
+        var untracked = LiteralArgumentBuilder.<String>literal("untracked").build();
+        
+        tree.prune(root, List.of(untracked));
+        tree.prune(root, List.of(untracked));
+        
+        verify(mapper, times(2)).map(untracked);
+    }
+    
+    
+    @Test
+    void retain() {
+        tree.prune(root, List.of(literal, commands.get(0)));
+        
+        tree.retain(List.of(literal));
+        
+        assertEquals(2, tree.memoized.size());
+        assertNull(tree.memoized.get(commands.get(0)));
+    }
+    
+    
     @Test
     void add() {
         root.addChild(Literal.<String>builder("a").then(Literal.<String>builder("child").build()).build());
@@ -73,6 +139,7 @@ class TreeWalkerTest {
         
         assertEquals(1, root.getChildren().size());
         assertNotNull(root.getChild("a").getChild("child"));
+        assertTrue(tree.memoized.isEmpty());
     }
     
     
@@ -57,6 +57,17 @@ class ArgumentTest {
     }
     
     
+    @Test
+    void modify() {
+        var before = Nodes.modifications();
+        
+        argument.removeChild("child");
+        
+        assertTrue(argument.modified > before);
+        assertTrue(Nodes.modified(argument, before));
+    }
+    
+    
     @Test
     void addChild_child() {
         argument.addChild(child);
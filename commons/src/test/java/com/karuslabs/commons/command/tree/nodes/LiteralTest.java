@@ -23,12 +23,21 @@
  */
 package com.karuslabs.commons.command.tree.nodes;
 
+import com.karuslabs.commons.command.Execution;
+
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+
+import java.util.concurrent.Executor;
+
+import org.bukkit.plugin.Plugin;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 
 class LiteralTest {
@@ -51,6 +60,55 @@ class LiteralTest {
     }
     
     
+    @Test
+    void executes_async() throws CommandSyntaxException {
+        var executor = mock(Executor.class);
+        var literal = Literal.<String>builder("async").executes((source, context, main) -> {}, mock(Plugin.class), executor).build();
+        
+        assertTrue(literal.getCommand() instanceof Execution<?>);
+        
+        literal.getCommand().run(mock(CommandContext.class));
+        
+        verify(executor).execute(any());
+    }
+    
+    
+    @Test
+    void modify() {
+        var alias = literal.aliases().get(0);
+        var before = Nodes.modifications();
+        
+        literal.setCommand(COMMAND);
+        
+        assertTrue(literal.modified > before);
+        assertEquals(literal.modified, ((Literal<String>) alias).modified);
+        assertTrue(Nodes.modified(alias, before));
+    }
+    
+    
+    @Test
+    void modify_grandchild() {
+        literal.addChild(child);
+        var before = Nodes.modifications();
+        
+        child.setRedirect(null);
+        
+        assertTrue(Nodes.modified(literal, before));
+        assertFalse(Nodes.modified(literal, Nodes.modifications()));
+    }
+    
+    
+    @Test
+    void modify_redirect() {
+        literal.setRedirect(child);
+        var before = Nodes.modifications();
+        
+        child.addChild(grandchild);
+        
+        assertTrue(Nodes.modified(literal, before));
+    }
+    
+    
     @Test
     void alias() {
         literal.addChild(argument);
@@ -28,7 +28,7 @@ import com.karuslabs.commons.command.types.EnchantmentType;
 
 import com.mojang.brigadier.tree.*;
 
-import java.util.List;
+import java.util.*;
 import java.util.stream.Stream;
 
 import org.bukkit.command.*;
@@ -61,6 +61,63 @@ class RootTest {
     }
     
     
+    @Test
+    void version() {
+        when(map.register(literal)).thenReturn(new DispatcherCommand("a", null, null, null, List.of("a1")));
+        
+        root.addChild(literal);
+        var added = root.version();
+        root.removeChild("a");
+        
+        assertNotEquals(0, added);
+        assertNotEquals(added, root.version());
+    }
+    
+    
+    @Test
+    void version_unregistered() {
+        root.addChild(Literal.of("a").build());
+        
+        assertEquals(0, root.version());
+    }
+    
+    
+    @Test
+    void changes() {
+        when(map.register(literal)).thenReturn(new DispatcherCommand("a", null, null, null, List.of("a1")));
+        
+        root.addChild(literal);
+        
+        assertEquals(Set.of("a", "test:a", "a1", "test:a1"), root.changes());
+        assertEquals(Set.of(), root.changes());
+    }
+    
+    
+    @Test
+    void changes_modified() {
+        when(map.register(literal)).thenReturn(new DispatcherCommand("a", null, null, null, List.of()));
+        
+        root.addChild(literal);
+        root.changes();
+        
+        literal.addChild(Literal.of("b").build());
+        
+        assertEquals(Set.of("a", "test:a"), root.changes());
+    }
+    
+    
+    @Test
+    void changes_removed() {
+        when(map.register(literal)).thenReturn(new DispatcherCommand("a", null, null, null, List.of("a1")));
+        
+        root.addChild(literal);
+        root.changes();
+        root.removeChild("a");
+        
+        assertEquals(Set.of("a", "test:a", "a1", "test:a1"), root.changes());
+    }
+    
+    
     @Test
     void addChild_bukkit_contains_name() {
         var command = new DispatcherCommand("a", null, null, null, List.of("a1"));
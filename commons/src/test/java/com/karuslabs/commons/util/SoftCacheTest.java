@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SoftCacheTest {
+    
+    Function<String, String> function = mock(Function.class);
+    SoftCache<String, String> cache = new SoftCache<>(function);
+    
+    @BeforeEach
+    void before() {
+        when(function.apply(any())).then(invocation -> invocation.getArgument(0) + "!");
+    }
+    
+    @Test
+    void get() {
+        assertEquals("a!", cache.get("a"));
+        assertEquals("a!", cache.get("a"));
+        
+        verify(function, times(1)).apply("a");
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+    
+    @Test
+    void get_reclaimed() {
+        cache.get("a");
+        cache.map.get("a").enqueue();
+        
+        assertEquals("a!", cache.get("a"));
+        
+        verify(function, times(2)).apply("a");
+        assertEquals(0, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+    
+    @Test
+    void getIfPresent() {
+        assertNull(cache.getIfPresent("a"));
+        cache.get("a");
+        assertEquals("a!", cache.getIfPresent("a"));
+        
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+    
+    @Test
+    void soft() {
+        assertEquals(Soft.empty(), cache.soft("a"));
+        cache.get("a");
+        assertEquals("a!", cache.soft("a").orThrow());
+    }
+    
+    @Test
+    void invalidate() {
+        cache.get("a");
+        cache.invalidate("a");
+        
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void invalidateAll() {
+        cache.get("a");
+        cache.get("b");
+        cache.invalidateAll();
+        
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void expunge() {
+        cache.get("a");
+        cache.map.get("a").enqueue();
+        
+        assertEquals(0, cache.size());
+    }
+    
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeakRegistryTest {
+    
+    WeakRegistry<Object, String> registry = new WeakRegistry<>();
+    Object key = new Object();
+    
+    @Test
+    void get() {
+        registry.put(key, "value");
+        
+        assertEquals("value", registry.get(key));
+        assertTrue(registry.containsKey(key));
+        assertNull(registry.get(new Object()));
+    }
+    
+    @Test
+    void get_identity() {
+        var first = new ArrayList<>();
+        var second = new ArrayList<>();
+        
+        registry.put(first, "first");
+        
+        assertEquals(first, second);
+        assertNull(registry.get(second));
+    }
+    
+    @Test
+    void getOrDefault() {
+        assertEquals("default", registry.getOrDefault(key, "default"));
+    }
+    
+    @Test
+    void computeIfAbsent() {
+        assertEquals("first", registry.computeIfAbsent(key, key -> "first"));
+        assertEquals("first", registry.computeIfAbsent(key, key -> "second"));
+    }
+    
+    @Test
+    void put() {
+        assertNull(registry.put(key, "first"));
+        assertEquals("first", registry.put(key, "second"));
+        assertEquals(1, registry.size());
+    }
+    
+    @Test
+    void putIfAbsent() {
+        assertNull(registry.putIfAbsent(key, "first"));
+        assertEquals("first", registry.putIfAbsent(key, "second"));
+        assertEquals("first", registry.get(key));
+    }
+    
+    @Test
+    void remove() {
+        registry.put(key, "value");
+        
+        assertEquals("value", registry.remove(key));
+        assertTrue(registry.isEmpty());
+    }
+    
+    @Test
+    void clear() {
+        registry.put(key, "value");
+        registry.clear();
+        
+        assertTrue(registry.isEmpty());
+    }
+    
+    @Test
+    void keys() {
+        registry.put(key, "value");
+        assertEquals(Set.of(key), registry.keys().collect(toSet()));
+    }
+    
+    @Test
+    void values() {
+        registry.put(key, "first");
+        registry.put(new Object(), "second");
+        
+        registry.map.keySet().stream().filter(weak -> weak.get() != key).forEach(weak -> weak.enqueue());
+        
+        assertEquals(Set.of("first"), registry.values().collect(toSet()));
+    }
+    
+    @Test
+    void forEach() {
+        var entries = new HashMap<Object, String>();
+        registry.put(key, "value");
+        
+        registry.forEach(entries::put);
+        
+        assertEquals(Map.of(key, "value"), entries);
+    }
+    
+    @Test
+    void expunge() {
+        registry.put(key, "value");
+        registry.map.keySet().forEach(weak -> weak.enqueue());
+        
+        assertEquals(0, registry.size());
+        assertTrue(registry.map.isEmpty());
+    }
+    
+}
@@ -77,6 +77,60 @@ class ClassMapTest {
     }
     
     
+    @ParameterizedTest
+    @MethodSource("maps")
+    void resolve_exact(ClassMap<Object> map) {
+        map.put(Object.class, "object");
+        map.put(ArrayList.class, "list");
+        
+        assertEquals("list", map.resolve(ArrayList.class));
+    }
+    
+    
+    @ParameterizedTest
+    @MethodSource("maps")
+    void resolve_superclass(ClassMap<Object> map) {
+        map.put(Collection.class, "collection");
+        map.put(AbstractList.class, "abstract");
+        
+        assertEquals("abstract", map.resolve(ArrayList.class));
+    }
+    
+    
+    @ParameterizedTest
+    @MethodSource("maps")
+    void resolve_interface(ClassMap<Object> map) {
+        map.put(Object.class, "object");
+        map.put(Collection.class, "collection");
+        
+        assertEquals("collection", map.resolve(ArrayList.class));
+    }
+    
+    
+    @ParameterizedTest
+    @MethodSource("maps")
+    void resolve_object(ClassMap<Object> map) {
+        map.put(Object.class, "object");
+        
+        assertEquals("object", map.resolve(Runnable.class));
+        assertNull(map.resolve(int.class));
+    }
+    
+    
+    @ParameterizedTest
+    @MethodSource("maps")
+    void resolve_mutated(ClassMap<Object> map) {
+        map.put(Collection.class, "collection");
+        assertEquals("collection", map.resolve(ArrayList.class));
+        
+        map.put(List.class, "list");
+        assertEquals("list", map.resolve(ArrayList.class));
+        
+        map.map().clear();
+        assertNull(map.resolve(ArrayList.class));
+    }
+    
+    
     @ParameterizedTest
     @MethodSource("maps")
     void put(ClassMap<Object> map) {
@@ -97,8 +151,9 @@ class ClassMapTest {
     static Stream<ClassMap<Object>> maps() {
         var hashed = ClassMap.of();
         var proxied = ClassMap.of(new HashMap<>());
+        var cached = ConcurrentClassMap.cached();
         
-        return Stream.of(hashed, proxied);
+        return Stream.of(hashed, proxied, cached);
     }
     
 }
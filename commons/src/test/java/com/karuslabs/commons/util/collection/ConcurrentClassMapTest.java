@@ -49,6 +49,149 @@ class ConcurrentHashClassMapTest {
     
 }
 
+class ConcurrentClassValueMapTest {
+    
+    ConcurrentClassMap<Object> map = ConcurrentClassMap.cached(1);
+    
+    @Test
+    void get_cached() {
+        assertNull(map.get(String.class));
+        assertFalse(map.containsKey(String.class));
+        
+        map.put(String.class, "first");
+        
+        assertEquals("first", map.get(String.class));
+        assertTrue(map.containsKey(String.class));
+    }
+    
+    @Test
+    void map_put() {
+        map.put(String.class, "first");
+        map.map().put(String.class, "second");
+        
+        assertEquals("second", map.get(String.class));
+    }
+    
+    @Test
+    void map_compute() {
+        map.put(int.class, 1);
+        map.map().compute(int.class, (type, value) -> 2);
+        
+        assertEquals(2, (int) map.getOrDefault(int.class, 3));
+    }
+    
+    @Test
+    void map_merge() {
+        map.map().merge(String.class, "a", (first, second) -> first + second);
+        map.map().merge(String.class, "b", (first, second) -> first + second);
+        
+        assertEquals("ab", map.get(String.class));
+    }
+    
+    @Test
+    void map_replaceAll() {
+        map.put(String.class, "first");
+        map.map().replaceAll((type, value) -> "second");
+        
+        assertEquals("second", map.get(String.class));
+    }
+    
+    @Test
+    void map_remove() {
+        map.put(String.class, "first");
+        map.get(String.class);
+        
+        map.map().remove(String.class, "first");
+        
+        assertNull(map.get(String.class));
+    }
+    
+    @Test
+    void map_clear() {
+        map.put(String.class, "first");
+        map.put(int.class, 1);
+        map.get(String.class);
+        
+        map.map().clear();
+        
+        assertTrue(map.map().isEmpty());
+        assertFalse(map.containsKey(String.class));
+        assertEquals(2, (int) map.getOrDefault(int.class, 2));
+    }
+    
+    @Test
+    void map_unchanged() {
+        var cached = (ConcurrentClassValueMap<Object>) map;
+        map.put(String.class, "first");
+        var values = cached.values;
+        
+        map.map().putIfAbsent(String.class, "second");
+        map.map().computeIfAbsent(String.class, type -> "second");
+        map.map().computeIfPresent(int.class, (type, value) -> 2);
+        map.map().replace(int.class, 2);
+        map.map().replace(String.class, "second", "third");
+        map.map().remove(int.class);
+        map.map().remove(String.class, "second");
+        
+        assertSame(values, cached.values);
+        assertEquals("first", map.get(String.class));
+    }
+    
+    @Test
+    void map_computeIfAbsent() {
+        map.get(String.class);
+        
+        map.map().computeIfAbsent(String.class, type -> "first");
+        
+        assertEquals("first", map.get(String.class));
+    }
+    
+    @Test
+    void map_entrySet_removeIf() {
+        map.put(String.class, "x");
+        map.get(String.class);
+        
+        map.map().entrySet().removeIf(entry -> true);
+        
+        assertTrue(map.map().isEmpty());
+        assertNull(map.get(String.class));
+    }
+    
+    @Test
+    void map_keySet_iterator_remove() {
+        map.put(String.class, "x");
+        map.get(String.class);
+        
+        var iterator = map.map().keySet().iterator();
+        iterator.next();
+        iterator.remove();
+        
+        assertNull(map.get(String.class));
+    }
+    
+    @Test
+    void map_values_removeIf() {
+        map.put(String.class, "x");
+        map.get(String.class);
+        
+        map.map().values().removeIf(value -> true);
+        
+        assertNull(map.get(String.class));
+    }
+    
+    @Test
+    void map_entry_setValue() {
+        map.put(String.class, "x");
+        map.get(String.class);
+        
+        map.map().entrySet().iterator().next().setValue("y");
+        
+        assertEquals("y", map.get(String.class));
+        assertEquals("y", map.map().get(String.class));
+    }
+    
+}
+
 class ConcurrentProxiedClassMapTest {
     
     @Test
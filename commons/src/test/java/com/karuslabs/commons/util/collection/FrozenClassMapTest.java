@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.collection;
+
+import java.time.Duration;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrozenClassMapTest {
+    
+    ClassMap<Object> map = ClassMap.builder()
+                                   .put(String.class, "string")
+                                   .put(Collection.class, List.of())
+                                   .build();
+    
+    @Test
+    void get() {
+        assertEquals("string", map.get(String.class));
+        assertNull(map.get(Integer.class));
+    }
+    
+    @Test
+    void containsKey() {
+        assertTrue(map.containsKey(String.class));
+        assertFalse(map.containsKey(Integer.class));
+    }
+    
+    @Test
+    void getOrDefault() {
+        assertEquals("string", map.getOrDefault(String.class, "default"));
+        assertEquals(1, (int) map.getOrDefault(int.class, 1));
+    }
+    
+    @Test
+    void resolve() {
+        assertEquals(List.of(), map.resolve(ArrayList.class));
+        assertNull(map.resolve(Integer.class));
+    }
+    
+    @Test
+    void put() {
+        assertThrows(UnsupportedOperationException.class, () -> map.put(Integer.class, 1));
+    }
+    
+    @Test
+    void remove() {
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(String.class));
+    }
+    
+    @Test
+    void freeze() {
+        assertSame(map, map.freeze());
+    }
+    
+    @Test
+    void freeze_copy() {
+        var source = ClassMap.of();
+        source.put(String.class, "string");
+        source.put(Integer.class, 1);
+        
+        var frozen = source.freeze();
+        source.put(Double.class, 1.0);
+        
+        assertEquals(2, frozen.map().size());
+        assertEquals(1, (int) frozen.get(Integer.class));
+        assertFalse(frozen.containsKey(Double.class));
+    }
+    
+    @Test
+    void freeze_null() {
+        var source = ClassMap.of();
+        source.put(String.class, null);
+        
+        assertThrows(NullPointerException.class, source::freeze);
+    }
+    
+    @Test
+    void map() {
+        assertEquals(Map.of(String.class, "string", Collection.class, List.of()), map.map());
+        assertEquals(2, map.map().entrySet().size());
+    }
+    
+    @Test
+    void map_empty() {
+        assertTrue(ClassMap.of().freeze().map().isEmpty());
+    }
+    
+    @Test
+    void frozen_concurrently_modified() {
+        var source = new HashMap<Class<?>, Object>(Map.of(String.class, "string", Integer.class, 1, Long.class, 2L));
+        var grown = new AbstractMap<Class<?>, Object>() {
+            @Override
+            public int size() {
+                return 1;
+            }
+            
+            @Override
+            public Set<Entry<Class<?>, Object>> entrySet() {
+                return source.entrySet();
+            }
+        };
+        
+        var frozen = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> new FrozenClassMap<Object>(grown));
+        
+        assertEquals(3, frozen.map().size());
+        assertEquals(1, frozen.get(Integer.class));
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.collection;
+
+import java.time.Duration;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrozenTokenMapTest {
+    
+    TokenMap<String, Object> map = TokenMap.<String, Object>builder()
+                                           .put("a", String.class, "b")
+                                           .put(TokenMap.key("c", int.class), 1)
+                                           .build();
+    
+    @Test
+    void get() {
+        assertEquals("b", map.get("a", String.class));
+        assertEquals(1, (int) map.get(TokenMap.key("c", int.class)));
+        assertNull(map.get("a", int.class));
+    }
+    
+    @Test
+    void containsKey() {
+        assertTrue(map.containsKey("a", String.class));
+        assertTrue(map.containsKey(TokenMap.key("c", int.class)));
+        assertFalse(map.containsKey("c", String.class));
+    }
+    
+    @Test
+    void getOrDefault() {
+        assertEquals("b", map.getOrDefault("a", String.class, "d"));
+        assertEquals("d", map.getOrDefault("e", String.class, "d"));
+    }
+    
+    @Test
+    void put() {
+        assertThrows(UnsupportedOperationException.class, () -> map.put("e", String.class, "f"));
+    }
+    
+    @Test
+    void remove() {
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a", String.class));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(TokenMap.key("a", String.class)));
+    }
+    
+    @Test
+    void freeze() {
+        assertSame(map, map.freeze());
+    }
+    
+    @Test
+    void freeze_copy() {
+        var source = TokenMap.<String, Object>of();
+        for (int i = 0; i < 64; i++) {
+            source.put("key" + i, Integer.class, i);
+        }
+        
+        var frozen = source.freeze();
+        source.put("key", String.class, "value");
+        
+        assertEquals(64, frozen.map().size());
+        assertEquals(source.get("key42", Integer.class), frozen.get("key42", Integer.class));
+        assertFalse(frozen.containsKey("key", String.class));
+    }
+    
+    @Test
+    void map() {
+        assertEquals(Map.of(TokenMap.key("a", String.class), "b", TokenMap.key("c", int.class), 1), map.map());
+    }
+    
+    @Test
+    void frozen_concurrently_modified() {
+        var source = new HashMap<TokenMap.Key<String, ?>, Object>(Map.of(TokenMap.key("a", String.class), "b", TokenMap.key("c", int.class), 1, TokenMap.key("d", long.class), 2L));
+        var grown = new AbstractMap<TokenMap.Key<String, ?>, Object>() {
+            @Override
+            public int size() {
+                return 1;
+            }
+            
+            @Override
+            public Set<Entry<TokenMap.Key<String, ?>, Object>> entrySet() {
+                return source.entrySet();
+            }
+        };
+        
+        var frozen = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> new FrozenTokenMap<String, Object>(grown));
+        
+        assertEquals(3, frozen.map().size());
+        assertEquals(1, (int) frozen.get("c", int.class));
+    }
+
+}
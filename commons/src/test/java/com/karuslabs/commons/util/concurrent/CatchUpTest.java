@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+class CatchUpTest {
+    
+    Consumer<Context> task = mock(Consumer.class);
+    
+    RunnableContext context(CatchUp catchUp) {
+        return new RunnableContext(task, Context.INFINITE, 0, 10, catchUp);
+    }
+    
+    @Test
+    void skip() {
+        var context = context(CatchUp.skip());
+        
+        assertFalse(CatchUp.skip().admit(context, 30));
+        assertFalse(CatchUp.skip().admit(context, 20));
+        assertFalse(CatchUp.skip().admit(context, 10));
+        assertTrue(CatchUp.skip().admit(context, 0));
+        
+        assertEquals(3, context.missed());
+    }
+    
+    @Test
+    void coalesce() {
+        var context = context(CatchUp.coalesce());
+        
+        assertTrue(CatchUp.coalesce().admit(context, 30));
+        assertEquals(3, context.missed());
+        
+        assertFalse(CatchUp.coalesce().admit(context, 20));
+        assertFalse(CatchUp.coalesce().admit(context, 10));
+        assertFalse(CatchUp.coalesce().admit(context, 0));
+        assertTrue(CatchUp.coalesce().admit(context, 0));
+    }
+    
+    @Test
+    void burst() {
+        var context = context(CatchUp.burst(2));
+        var catchUp = CatchUp.burst(2);
+        
+        assertTrue(catchUp.admit(context, 30));
+        assertTrue(catchUp.admit(context, 20));
+        assertFalse(catchUp.admit(context, 10));
+        assertTrue(catchUp.admit(context, 0));
+        
+        assertEquals(1, context.missed());
+        assertTrue(catchUp.admit(context, 10) && catchUp.admit(context, 10));
+    }
+    
+    @Test
+    void burst_zero() {
+        assertSame(CatchUp.skip(), CatchUp.burst(0));
+    }
+    
+    @Test
+    void burst_throws_exception() {
+        assertEquals("Limit must be positive, was -1", assertThrows(IllegalArgumentException.class, () -> CatchUp.burst(-1)).getMessage());
+    }
+    
+    @Test
+    void run_resets_missed() {
+        var context = context(CatchUp.skip());
+        context.future = mock(Future.class);
+        context.missed = 2;
+        
+        context.run();
+        
+        assertEquals(0, context.missed());
+    }
+    
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class HistogramTest {
+    
+    Histogram histogram = new Histogram();
+    
+    @Test
+    void record() {
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000);
+        }
+        
+        assertEquals(100, histogram.count());
+        assertEquals(50500, histogram.mean(TimeUnit.NANOSECONDS));
+        assertEquals(100000, histogram.max(TimeUnit.NANOSECONDS));
+        assertEquals(5050000, histogram.total(TimeUnit.NANOSECONDS));
+    }
+    
+    @Test
+    void record_negative() {
+        histogram.record(-1);
+        
+        assertEquals(1, histogram.count());
+        assertEquals(0, histogram.max(TimeUnit.NANOSECONDS));
+    }
+    
+    @Test
+    void percentile() {
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000);
+        }
+        
+        var median = histogram.percentile(0.5, TimeUnit.NANOSECONDS);
+        assertTrue(50000 <= median && median < 100000);
+        assertEquals(100000, histogram.percentile(1, TimeUnit.NANOSECONDS));
+    }
+    
+    @Test
+    void percentile_empty() {
+        assertEquals(0, histogram.percentile(0.99, TimeUnit.NANOSECONDS));
+        assertEquals(0, histogram.mean(TimeUnit.NANOSECONDS));
+    }
+    
+    @Test
+    void percentile_throws_exception() {
+        assertEquals("Percentile must be between 0 and 1, was 2.0", assertThrows(IllegalArgumentException.class, () -> histogram.percentile(2, TimeUnit.NANOSECONDS)).getMessage());
+    }
+    
+}
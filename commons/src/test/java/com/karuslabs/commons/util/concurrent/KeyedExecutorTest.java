@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedExecutorTest {
+    
+    Deque<Runnable> pool = new ArrayDeque<>();
+    KeyedExecutor executor = new KeyedExecutor(pool::add);
+    List<String> values = new ArrayList<>();
+    
+    @Test
+    void execute() {
+        executor.execute("a", () -> values.add("a1"));
+        executor.execute("a", () -> values.add("a2"));
+        executor.execute("b", () -> values.add("b1"));
+        
+        assertEquals(2, pool.size());
+        assertEquals(2, executor.size());
+        
+        pool.poll().run();
+        pool.poll().run();
+        
+        assertEquals(List.of("a1", "a2", "b1"), values);
+        assertEquals(0, executor.size());
+        assertTrue(pool.isEmpty());
+    }
+    
+    @Test
+    void execute_error() {
+        var thread = Thread.currentThread();
+        var handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> values.add("error"));
+        try {
+            executor.execute("a", () -> { throw new Error(); });
+            pool.poll().run();
+            
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+        
+        executor.execute("a", () -> values.add("a1"));
+        pool.poll().run();
+        
+        assertEquals(List.of("error", "a1"), values);
+        assertEquals(0, executor.size());
+    }
+    
+    @Test
+    void execute_rejected() {
+        var reject = new boolean[] {true};
+        var executor = new KeyedExecutor(task -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException();
+            }
+            pool.add(task);
+        });
+        
+        assertThrows(RejectedExecutionException.class, () -> executor.execute("a", () -> values.add("a1")));
+        assertEquals(0, executor.size());
+        
+        reject[0] = false;
+        executor.execute("a", () -> values.add("a2"));
+        pool.poll().run();
+        
+        assertEquals(List.of("a2"), values);
+    }
+    
+    @Test
+    void execute_running() {
+        executor.execute("a", () -> {
+            values.add("a1");
+            executor.execute("a", () -> values.add("a2"));
+        });
+        
+        pool.poll().run();
+        
+        assertEquals(List.of("a1", "a2"), values);
+        assertTrue(pool.isEmpty());
+    }
+    
+    @Test
+    void execute_batch() {
+        for (int i = 0; i < KeyedExecutor.BATCH + 1; i++) {
+            executor.lane("a").execute(() -> values.add("a"));
+        }
+        
+        pool.poll().run();
+        
+        assertEquals(KeyedExecutor.BATCH, values.size());
+        assertEquals(1, pool.size());
+        
+        pool.poll().run();
+        
+        assertEquals(KeyedExecutor.BATCH + 1, values.size());
+        assertEquals(0, executor.size());
+    }
+    
+    @Test
+    void execute_exception() {
+        var thread = Thread.currentThread();
+        var handler = thread.getUncaughtExceptionHandler();
+        var exceptions = new ArrayList<Throwable>();
+        thread.setUncaughtExceptionHandler((t, e) -> exceptions.add(e));
+        
+        try {
+            executor.execute("a", () -> { throw new IllegalStateException(); });
+            executor.execute("a", () -> values.add("a"));
+            
+            pool.poll().run();
+            
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+        
+        assertEquals(1, exceptions.size());
+        assertEquals(List.of("a"), values);
+    }
+    
+    @Test
+    void lane() {
+        var lane = executor.lane("a");
+        lane.execute(() -> values.add("a1"));
+        pool.poll().run();
+        
+        assertEquals(0, executor.size());
+        
+        lane.execute(() -> values.add("a2"));
+        pool.poll().run();
+        
+        assertEquals(List.of("a1", "a2"), values);
+    }
+    
+}
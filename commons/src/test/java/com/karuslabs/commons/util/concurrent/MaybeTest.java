@@ -23,8 +23,8 @@
  */
 package com.karuslabs.commons.util.concurrent;
 
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.*;
+import java.util.concurrent.*;
 
 import org.junit.jupiter.api.*;
 
@@ -42,6 +42,18 @@ class MaybeTest {
         exceptional.run();
     }
     
+    @Test
+    void map_rejected() throws InterruptedException, ExecutionException, TimeoutException {
+        var maybe = new Maybe<>(() -> "x");
+        var rejected = maybe.map(value -> value + "1", task -> { throw new RejectedExecutionException(); });
+        var next = maybe.map(value -> value + "2");
+        
+        maybe.run();
+        
+        assertTrue(assertThrows(ExecutionException.class, rejected::get).getCause() instanceof RejectedExecutionException);
+        assertEquals("x2", next.get(1, TimeUnit.SECONDS));
+    }
+    
     @Test
     void value_constructor() {
         var maybe = Maybe.value("a");
@@ -88,4 +100,152 @@ class MaybeTest {
         assertNull(exceptional.value(0, TimeUnit.MINUTES));
     }
     
+    @Test
+    void thenAccept() {
+        var values = new ArrayList<String>();
+        var next = maybe.thenAccept(values::add, Runnable::run);
+        
+        assertEquals(List.of("expected"), values);
+        assertTrue(next.isDone());
+    }
+    
+    @Test
+    void thenAccept_pending() {
+        var values = new ArrayList<String>();
+        var pending = new Maybe<>(() -> "pending");
+        var executor = new TickExecutor(1, TimeUnit.SECONDS);
+        
+        pending.thenAccept(values::add, executor);
+        pending.run();
+        
+        assertTrue(values.isEmpty());
+        
+        executor.run();
+        
+        assertEquals(List.of("pending"), values);
+    }
+    
+    @Test
+    void thenAccept_exceptional() {
+        var next = exceptional.thenAccept(value -> fail(), Runnable::run);
+        
+        assertEquals(IllegalArgumentException.class, assertThrows(ExecutionException.class, next::get).getCause().getClass());
+    }
+    
+    @Test
+    void thenAccept_cancelled() {
+        var cancelled = new Maybe<>(() -> "cancelled");
+        cancelled.cancel(false);
+        
+        assertTrue(cancelled.thenAccept(value -> fail(), Runnable::run).isCancelled());
+    }
+    
+    @Test
+    void thenAccept_direct() {
+        var values = new ArrayList<String>();
+        maybe.thenAccept(values::add);
+        
+        assertEquals(List.of("expected"), values);
+    }
+    
+    @Test
+    void onMainThread() {
+        var values = new ArrayList<String>();
+        var executor = new TickExecutor(1, TimeUnit.SECONDS);
+        
+        maybe.onMainThread(values::add, executor);
+        assertTrue(values.isEmpty());
+        
+        executor.run();
+        assertEquals(List.of("expected"), values);
+    }
+    
+    @Test
+    void onMainThread_current() {
+        var values = new ArrayList<String>();
+        var executor = new TickExecutor(1, TimeUnit.SECONDS);
+        executor.run();
+        
+        maybe.onMainThread(values::add, executor);
+        
+        assertEquals(List.of("expected"), values);
+        assertTrue(executor.isEmpty());
+    }
+    
+    @Test
+    void map() {
+        assertEquals(8, maybe.map(String::length).value());
+    }
+    
+    @Test
+    void map_exception() {
+        var mapped = maybe.map(value -> { throw new IllegalStateException(); });
+        assertEquals(IllegalStateException.class, assertThrows(ExecutionException.class, mapped::get).getCause().getClass());
+    }
+    
+    @Test
+    void map_exceptional() {
+        var mapped = exceptional.map(value -> fail());
+        assertEquals(IllegalArgumentException.class, assertThrows(ExecutionException.class, mapped::get).getCause().getClass());
+    }
+    
+    @Test
+    void map_pending() {
+        var pending = new Maybe<>(() -> "pending");
+        var mapped = pending.map(String::length);
+        
+        assertFalse(mapped.isDone());
+        pending.run();
+        
+        assertEquals(7, mapped.value());
+    }
+    
+    @Test
+    void flatMap() {
+        assertEquals("expected!", maybe.flatMap(value -> Maybe.value(value + "!")).value());
+    }
+    
+    @Test
+    void flatMap_inner_exceptional() {
+        var mapped = maybe.flatMap(value -> exceptional);
+        assertEquals(IllegalArgumentException.class, assertThrows(ExecutionException.class, mapped::get).getCause().getClass());
+    }
+    
+    @Test
+    void flatMap_exception() {
+        var mapped = maybe.flatMap(value -> { throw new IllegalStateException(); });
+        assertEquals(IllegalStateException.class, assertThrows(ExecutionException.class, mapped::get).getCause().getClass());
+    }
+    
+    @Test
+    void toCompletableFuture() {
+        assertEquals("expected", maybe.toCompletableFuture().join());
+        assertTrue(exceptional.toCompletableFuture().isCompletedExceptionally());
+    }
+    
+    @Test
+    void from() {
+        assertEquals("value", Maybe.from(CompletableFuture.completedFuture("value")).value());
+    }
+    
+    @Test
+    void from_exception() {
+        var future = new CompletableFuture<String>();
+        var maybe = Maybe.from(future.thenApply(value -> value));
+        
+        future.completeExceptionally(new IllegalStateException());
+        
+        assertEquals(IllegalStateException.class, assertThrows(ExecutionException.class, maybe::get).getCause().getClass());
+    }
+    
+    @Test
+    void from_cancelled() {
+        var future = new CompletableFuture<String>();
+        var maybe = Maybe.from(future);
+        
+        future.cancel(false);
+        
+        assertTrue(maybe.isCancelled());
+    }
+    
 }
@@ -23,6 +23,7 @@
  */
 package com.karuslabs.commons.util.concurrent;
 
+import java.util.*;
 import java.util.concurrent.*;
 import java.util.function.Consumer;
 
@@ -49,6 +50,310 @@ class SchedulerTest {
         assertEquals(Context.INFINITE, runnable.getValue().times());
     }
     
+    @Test
+    void schedule_consumer_executor() {
+        doReturn(null).when(scheduler).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        var runnable = ArgumentCaptor.forClass(RunnableContext.class);
+        var executor = new TickExecutor(1, TimeUnit.SECONDS);
+        Consumer<Context> consumer = mock(Consumer.class);
+        
+        scheduler.schedule(consumer, 1, 2, TimeUnit.DAYS, executor);
+        verify(scheduler).scheduleAtFixedRate(runnable.capture(), eq(1L), eq(2L), eq(TimeUnit.DAYS));
+        
+        var context = runnable.getValue();
+        context.run();
+        context.run();
+        verifyNoInteractions(consumer);
+        
+        executor.run();
+        verify(consumer, times(1)).accept(context);
+    }
+    
+    @Test
+    void schedule_catchUp() {
+        doReturn(null).when(scheduler).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        var runnable = ArgumentCaptor.forClass(RunnableContext.class);
+        
+        scheduler.schedule(context -> {}, 1, 2, TimeUnit.SECONDS, CatchUp.skip());
+        
+        verify(scheduler).scheduleAtFixedRate(runnable.capture(), eq(1L), eq(2L), eq(TimeUnit.SECONDS));
+        assertEquals(TimeUnit.SECONDS.toNanos(2), runnable.getValue().period);
+        assertEquals(Context.INFINITE, runnable.getValue().times());
+    }
+    
+    @Test
+    void schedule_ticks() {
+        doReturn(null).when(scheduler).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        var runnable = ArgumentCaptor.forClass(RunnableContext.class);
+        
+        scheduler.schedule(context -> {}, 1, 20, 3, CatchUp.coalesce());
+        
+        verify(scheduler).scheduleAtFixedRate(runnable.capture(), eq(Scheduler.TICK), eq(20 * Scheduler.TICK), eq(TimeUnit.NANOSECONDS));
+        assertEquals(3, runnable.getValue().times());
+    }
+    
+    @Test
+    void schedule_named() {
+        doReturn(null).when(scheduler).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        var runnable = ArgumentCaptor.forClass(MeasuredContext.class);
+        Consumer<Context> consumer = mock(Consumer.class);
+        
+        scheduler.schedule("task", consumer, 0, 1, TimeUnit.DAYS, 2);
+        verify(scheduler).scheduleAtFixedRate(runnable.capture(), eq(0L), eq(1L), eq(TimeUnit.DAYS));
+        
+        var context = runnable.getValue();
+        context.run();
+        
+        verify(consumer).accept(context);
+        assertEquals(1, context.times());
+        
+        var metrics = scheduler.metrics("task");
+        assertEquals("task", metrics.name());
+        assertEquals(1, metrics.execution().count());
+        assertEquals(1, metrics.queued().count());
+        assertEquals(1, metrics.drift().count());
+        assertEquals(0, metrics.overruns());
+        assertEquals(0, metrics.active());
+        assertSame(metrics, scheduler.metrics().get("task"));
+    }
+    
+    @Test
+    void schedule_named_executor() {
+        doReturn(null).when(scheduler).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        var runnable = ArgumentCaptor.forClass(MeasuredContext.class);
+        var executor = new TickExecutor(1, TimeUnit.SECONDS);
+        Consumer<Context> consumer = mock(Consumer.class);
+        
+        scheduler.schedule("task", consumer, 0, 1, TimeUnit.DAYS, executor);
+        verify(scheduler).scheduleAtFixedRate(runnable.capture(), eq(0L), eq(1L), eq(TimeUnit.DAYS));
+        
+        var context = runnable.getValue();
+        context.run();
+        
+        var metrics = scheduler.metrics("task");
+        verifyNoInteractions(consumer);
+        assertEquals(1, metrics.pending());
+        assertEquals(0, metrics.execution().count());
+        
+        executor.run();
+        
+        verify(consumer).accept(context);
+        assertEquals(0, metrics.pending());
+        assertEquals(1, metrics.execution().count());
+    }
+    
+    @Test
+    void metrics_absent() {
+        assertNull(scheduler.metrics("absent"));
+        assertTrue(scheduler.metrics().isEmpty());
+    }
+    
+    @Test
+    void spread() throws InterruptedException, ExecutionException, TimeoutException {
+        var values = new ArrayList<Integer>();
+        
+        var spread = scheduler.spread(List.of(1, 2, 3), values::add, 1, 1, TimeUnit.MILLISECONDS);
+        
+        assertEquals(3L, spread.completion().get(1, TimeUnit.MINUTES));
+        assertEquals(List.of(1, 2, 3), values);
+        assertTrue(spread.future.isCancelled());
+    }
+    
+    @Test
+    void spread_executor() {
+        doReturn(null).when(scheduler).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        var runnable = ArgumentCaptor.forClass(RunnableContext.class);
+        var executor = new TickExecutor(1, TimeUnit.SECONDS);
+        var values = new ArrayList<Integer>();
+        
+        var spread = scheduler.spread(List.of(1, 2, 3), values::add, 1, 50, TimeUnit.MILLISECONDS, executor);
+        verify(scheduler).scheduleAtFixedRate(runnable.capture(), eq(0L), eq(50L), eq(TimeUnit.MILLISECONDS));
+        
+        runnable.getValue().future = mock(Future.class);
+        runnable.getValue().run();
+        assertTrue(values.isEmpty());
+        
+        executor.run();
+        assertEquals(List.of(1, 2, 3), values);
+        assertTrue(spread.completion().isDone());
+    }
+    
+    @Test
+    void lane() throws InterruptedException {
+        var scheduler = new Scheduler(4);
+        var values = Collections.synchronizedList(new ArrayList<Integer>());
+        var latch = new CountDownLatch(100);
+        var lane = scheduler.lane("key");
+        
+        for (int i = 0; i < 100; i++) {
+            var value = i;
+            lane.execute(() -> {
+                values.add(value);
+                latch.countDown();
+            });
+        }
+        
+        assertTrue(latch.await(1, TimeUnit.MINUTES));
+        scheduler.shutdown();
+        
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, values.get(i));
+        }
+    }
+    
+    @Test
+    void coalesce() {
+        doNothing().when(scheduler).execute(any());
+        var runnable = ArgumentCaptor.forClass(Runnable.class);
+        Runnable task = mock(Runnable.class);
+        
+        assertTrue(scheduler.coalesce("key", task));
+        assertFalse(scheduler.coalesce("key", task));
+        
+        verify(scheduler).execute(runnable.capture());
+        
+        runnable.getValue().run();
+        verify(task).run();
+        
+        assertTrue(scheduler.coalesce("key", task));
+    }
+    
+    @Test
+    void coalesce_rejected() {
+        doThrow(RejectedExecutionException.class).when(scheduler).execute(any());
+        
+        assertThrows(RejectedExecutionException.class, () -> scheduler.coalesce("key", mock(Runnable.class)));
+        assertTrue(scheduler.coalesced.isEmpty());
+    }
+    
+    @Test
+    void coalesce_discarded() {
+        var scheduler = new Scheduler(1, new ThreadPoolExecutor.DiscardPolicy());
+        scheduler.shutdown();
+        
+        assertFalse(scheduler.coalesce("key", mock(Runnable.class)));
+        assertTrue(scheduler.coalesced.isEmpty());
+    }
+    
+    @Test
+    void coalesce_exception() {
+        doNothing().when(scheduler).execute(any());
+        var runnable = ArgumentCaptor.forClass(Runnable.class);
+        Runnable task = mock(Runnable.class);
+        doThrow(IllegalStateException.class).when(task).run();
+        
+        scheduler.coalesce("key", task);
+        verify(scheduler).execute(runnable.capture());
+        
+        assertDoesNotThrow(runnable.getValue()::run);
+        assertTrue(scheduler.coalesced.isEmpty());
+    }
+    
+    @Test
+    void debounce() {
+        doReturn(null).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        var runnable = ArgumentCaptor.forClass(Debounce.class);
+        Runnable first = mock(Runnable.class);
+        Runnable second = mock(Runnable.class);
+        
+        scheduler.debounce("key", 0, TimeUnit.MILLISECONDS, first);
+        scheduler.debounce("key", 0, TimeUnit.MILLISECONDS, second);
+        
+        verify(scheduler).schedule(runnable.capture(), eq(0L), eq(TimeUnit.NANOSECONDS));
+        
+        runnable.getValue().run();
+        
+        verifyNoInteractions(first);
+        verify(second).run();
+        assertTrue(scheduler.debounced.isEmpty());
+    }
+    
+    @Test
+    void debounce_delayed() {
+        doReturn(null).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        var runnable = ArgumentCaptor.forClass(Debounce.class);
+        Runnable task = mock(Runnable.class);
+        
+        scheduler.debounce("key", 1, TimeUnit.MINUTES, task);
+        
+        verify(scheduler).schedule(runnable.capture(), eq(TimeUnit.MINUTES.toNanos(1)), eq(TimeUnit.NANOSECONDS));
+        
+        var debounce = runnable.getValue();
+        debounce.run();
+        
+        verifyNoInteractions(task);
+        verify(scheduler, times(2)).schedule(eq(debounce), longThat(delay -> delay > 0), eq(TimeUnit.NANOSECONDS));
+    }
+    
+    @Test
+    void debounce_retired() {
+        doReturn(null).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        var runnable = ArgumentCaptor.forClass(Debounce.class);
+        Runnable first = mock(Runnable.class);
+        Runnable second = mock(Runnable.class);
+        
+        scheduler.debounce("key", 0, TimeUnit.MILLISECONDS, first);
+        verify(scheduler).schedule(runnable.capture(), eq(0L), eq(TimeUnit.NANOSECONDS));
+        runnable.getValue().run();
+        
+        scheduler.debounce("key", 0, TimeUnit.MILLISECONDS, second);
+        
+        verify(scheduler, times(2)).schedule(any(Debounce.class), eq(0L), eq(TimeUnit.NANOSECONDS));
+        assertNotSame(runnable.getValue(), scheduler.debounced.get("key"));
+    }
+    
+    @Test
+    void wheel() {
+        doReturn(task).when(scheduler).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        
+        var wheel = scheduler.wheel(50, TimeUnit.MILLISECONDS);
+        
+        verify(scheduler).scheduleAtFixedRate(wheel, 50, 50, TimeUnit.MILLISECONDS);
+        
+        wheel.cancel();
+        verify(task).cancel(false);
+    }
+    
+    @Test
+    void submit_executor() throws InterruptedException, ExecutionException {
+        Consumer<String> consumer = mock(Consumer.class);
+        
+        var maybe = scheduler.submit(() -> "value", consumer, Runnable::run);
+        
+        assertEquals("value", maybe.get());
+        verify(consumer, timeout(1000)).accept("value");
+    }
+    
+    @Test
+    void virtual() {
+        var scheduler = Scheduler.virtual(1);
+        
+        assertFalse(Threads.virtual());
+        assertSame(scheduler, scheduler.workers());
+        
+        scheduler.shutdown();
+    }
+    
+    @Test
+    void workers() throws InterruptedException, ExecutionException {
+        var workers = Threads.executor("worker");
+        var scheduler = new Scheduler(1, workers);
+        var thread = new CompletableFuture<String>();
+        
+        scheduler.schedule(context -> thread.complete(Thread.currentThread().getName()), 0, 1, TimeUnit.DAYS, 1);
+        
+        assertTrue(thread.get().startsWith("worker-"));
+        assertTrue(scheduler.submit(() -> Thread.currentThread().getName(), value -> {}, Runnable::run).get().startsWith("worker-"));
+        
+        scheduler.shutdown();
+        assertTrue(workers.isShutdown());
+    }
+    
+    @Test
+    void workers_default() {
+        assertSame(scheduler, scheduler.workers());
+    }
+    
     @Test
     void decorateTask_runnableContext() {
         var runnable = mock(RunnableContext.class);
@@ -92,6 +397,82 @@ class RunnableContextTest {
         verify(future).cancel(false);
     }
 
+    @Test
+    void run_exception() {
+        doThrow(IllegalStateException.class).when(consumer).accept(any());
+        var metrics = new TaskMetrics("task");
+        var context = new MeasuredContext(consumer, Context.INFINITE, 0, 0, metrics, null);
+        
+        assertThrows(IllegalStateException.class, context::run);
+        
+        assertEquals(1, metrics.execution().count());
+        assertEquals(0, metrics.active());
+    }
+    
+    @Test
+    void run_workers() {
+        var workers = new TickExecutor(1, TimeUnit.SECONDS);
+        var context = new RunnableContext(consumer, 2, 0, 0, CatchUp.UNBOUNDED, workers);
+        context.future = future;
+        
+        context.run();
+        context.run();
+        workers.run();
+        
+        verify(consumer, times(1)).accept(context);
+        assertEquals(1, context.times());
+        
+        context.run();
+        workers.run();
+        
+        verify(consumer, times(2)).accept(context);
+        assertEquals(0, context.times());
+    }
+    
+    @Test
+    void run_workers_exception() {
+        doThrow(IllegalStateException.class).when(consumer).accept(any());
+        var workers = new TickExecutor(1, TimeUnit.SECONDS);
+        var context = new RunnableContext(consumer, Context.INFINITE, 0, 0, CatchUp.UNBOUNDED, workers);
+        context.future = future;
+        
+        context.run();
+        workers.run();
+        
+        verify(future).cancel(false);
+    }
+    
+    @Test
+    void run_measured_late() {
+        var metrics = new TaskMetrics("task");
+        var workers = new TickExecutor(1, TimeUnit.SECONDS);
+        var context = new MeasuredContext(consumer, Context.INFINITE, -TimeUnit.SECONDS.toNanos(1), 10, metrics, workers);
+        
+        context.run();
+        
+        assertEquals(1, metrics.drift().count());
+        assertEquals(0, metrics.queued().count());
+        
+        workers.run();
+        
+        assertTrue(metrics.drift().max(TimeUnit.MILLISECONDS) >= 1000);
+        assertTrue(metrics.queued().max(TimeUnit.MILLISECONDS) < 1000);
+        assertEquals(0, metrics.skipped());
+    }
+    
+    @Test
+    void run_workers_overlapped() {
+        var metrics = new TaskMetrics("task");
+        var workers = new TickExecutor(1, TimeUnit.SECONDS);
+        var context = new MeasuredContext(consumer, Context.INFINITE, 0, 0, metrics, workers);
+        
+        context.run();
+        context.run();
+        
+        assertEquals(1, metrics.pending());
+        assertEquals(1, metrics.skipped());
+    }
+    
     @Test
     void run_infinite() {
         runnable.times = Context.INFINITE;
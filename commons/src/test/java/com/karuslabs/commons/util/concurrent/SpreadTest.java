@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SpreadTest {
+    
+    Context context = mock(Context.class);
+    List<Integer> values = new ArrayList<>();
+    Spread<Integer> spread = new Spread<>(List.of(1, 2, 3), values::add, 1, TimeUnit.MINUTES);
+    
+    @Test
+    void run() throws InterruptedException, ExecutionException {
+        spread.run(context);
+        
+        assertEquals(List.of(1, 2, 3), values);
+        assertEquals(3L, spread.completion().get());
+        assertEquals(1, spread.progress());
+        assertEquals(0, spread.times());
+        verify(context).cancel();
+    }
+    
+    @Test
+    void run_budget() {
+        var spread = new Spread<Integer>(List.of(1, 2, 3), values::add, 0, TimeUnit.NANOSECONDS);
+        
+        spread.run(context);
+        
+        assertEquals(List.of(1), values);
+        assertEquals(1, spread.processed());
+        assertEquals(2, spread.times());
+        assertEquals(1.0 / 3, spread.progress(), 0.0001);
+        assertFalse(spread.completion().isDone());
+        verifyNoInteractions(context);
+        
+        spread.run(context);
+        spread.run(context);
+        spread.run(context);
+        
+        assertEquals(List.of(1, 2, 3), values);
+        assertTrue(spread.completion().isDone());
+        verify(context).cancel();
+    }
+    
+    @Test
+    void run_exception() {
+        var spread = new Spread<Integer>(List.of(1, 2, 3), value -> { throw new IllegalStateException(); }, 1, TimeUnit.MINUTES);
+        
+        spread.run(context);
+        
+        assertEquals(IllegalStateException.class, assertThrows(ExecutionException.class, spread.completion()::get).getCause().getClass());
+        verify(context).cancel();
+    }
+    
+    @Test
+    void run_cancelled() {
+        Consumer<Integer> step = mock(Consumer.class);
+        var spread = new Spread<Integer>(List.of(1, 2, 3), step, 1, TimeUnit.MINUTES);
+        
+        spread.cancel();
+        spread.run(context);
+        
+        verifyNoInteractions(step);
+        verify(context).cancel();
+        assertTrue(spread.completion().isCancelled());
+    }
+    
+    @Test
+    void cancel() {
+        ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        spread.future = future;
+        
+        spread.cancel();
+        
+        verify(future).cancel(false);
+    }
+    
+    @Test
+    void times_iterable() {
+        Iterable<Integer> iterable = () -> List.of(1, 2, 3).iterator();
+        var spread = new Spread<Integer>(iterable, values::add, 1, TimeUnit.MINUTES);
+        
+        assertEquals(Context.INFINITE, spread.times());
+        assertEquals(Context.INFINITE, spread.total());
+        assertEquals(0, spread.progress());
+    }
+    
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+class TaskMetricsTest {
+    
+    TaskMetrics metrics = new TaskMetrics("task");
+    Consumer<Context> task = mock(Consumer.class);
+    Context context = mock(Context.class);
+    
+    @Test
+    void fire() {
+        metrics.fire(25);
+        
+        assertEquals(1, metrics.drift().count());
+        assertEquals(25, metrics.drift().max(TimeUnit.NANOSECONDS));
+        assertEquals(0, metrics.skipped());
+    }
+    
+    @Test
+    void run() {
+        metrics.run(task, context, System.nanoTime(), TimeUnit.DAYS.toNanos(1));
+        
+        verify(task).accept(context);
+        assertEquals(1, metrics.queued().count());
+        assertEquals(1, metrics.execution().count());
+        assertEquals(0, metrics.overruns());
+        assertEquals(0, metrics.active());
+    }
+    
+    @Test
+    void run_overrun() {
+        metrics.run(context -> assertEquals(1, metrics.active()), context, System.nanoTime(), -1);
+        
+        assertEquals(1, metrics.overruns());
+    }
+    
+    @Test
+    void dispatch() {
+        var executor = new TickExecutor(1, TimeUnit.SECONDS);
+        
+        Runnable runnable = mock(Runnable.class);
+        
+        metrics.dispatch(runnable, executor);
+        assertEquals(1, metrics.pending());
+        
+        executor.run();
+        
+        verify(runnable).run();
+        assertEquals(0, metrics.pending());
+    }
+    
+    @Test
+    void dispatch_rejected() {
+        Runnable runnable = mock(Runnable.class);
+        
+        assertThrows(RejectedExecutionException.class, () -> metrics.dispatch(runnable, task -> { throw new RejectedExecutionException(); }));
+        assertEquals(0, metrics.pending());
+    }
+    
+    @Test
+    void skip() {
+        metrics.skip();
+        
+        assertEquals(1, metrics.skipped());
+    }
+    
+    @Test
+    void name() {
+        assertEquals("task", metrics.name());
+    }
+    
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickExecutorTest {
+    
+    TickExecutor executor = new TickExecutor(1, TimeUnit.SECONDS);
+    List<Integer> values = new ArrayList<>();
+    
+    @Test
+    void run() {
+        executor.execute(() -> values.add(1));
+        executor.execute(() -> values.add(2));
+        
+        executor.run();
+        
+        assertEquals(List.of(1, 2), values);
+        assertTrue(executor.isEmpty());
+    }
+    
+    @Test
+    void run_budget() {
+        executor.budget(0, TimeUnit.NANOSECONDS);
+        executor.execute(() -> values.add(1));
+        executor.execute(() -> values.add(2));
+        
+        executor.run();
+        
+        assertEquals(List.of(1), values);
+        assertFalse(executor.isEmpty());
+        
+        executor.run();
+        
+        assertEquals(List.of(1, 2), values);
+        assertTrue(executor.isEmpty());
+    }
+    
+    @Test
+    void run_exception() {
+        var thread = Thread.currentThread();
+        var handler = thread.getUncaughtExceptionHandler();
+        var exceptions = new ArrayList<Throwable>();
+        thread.setUncaughtExceptionHandler((t, e) -> exceptions.add(e));
+        
+        try {
+            executor.execute(() -> { throw new IllegalStateException(); });
+            executor.execute(() -> values.add(1));
+
+            executor.run();
+            
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+        
+        assertEquals(1, exceptions.size());
+        assertEquals(List.of(1), values);
+    }
+    
+    @Test
+    void run_error() {
+        var thread = Thread.currentThread();
+        var handler = thread.getUncaughtExceptionHandler();
+        var exceptions = new ArrayList<Throwable>();
+        thread.setUncaughtExceptionHandler((t, e) -> exceptions.add(e));
+        
+        try {
+            executor.execute(() -> { throw new AssertionError(); });
+            executor.execute(() -> values.add(1));
+
+            executor.run();
+            
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+        
+        assertEquals(1, exceptions.size());
+        assertTrue(exceptions.get(0) instanceof AssertionError);
+        assertEquals(List.of(1), values);
+    }
+    
+    @Test
+    void isCurrentThread() {
+        assertFalse(executor.isCurrentThread());
+        executor.run();
+        assertTrue(executor.isCurrentThread());
+    }
+    
+    @Test
+    void budget() {
+        executor.budget(50, TimeUnit.MILLISECONDS);
+        assertEquals(50, executor.budget(TimeUnit.MILLISECONDS));
+    }
+    
+}
@@ -0,0 +1,158 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TimingWheelTest {
+    
+    TimingWheel wheel = new TimingWheel(50, TimeUnit.MILLISECONDS, 4);
+    List<Long> times = new ArrayList<>();
+    
+    @Test
+    void cancel_undriven() {
+        assertDoesNotThrow(wheel::cancel);
+    }
+    
+    @Test
+    void schedule() {
+        var future = wheel.schedule(context -> times.add(context.times()), 0, 100, TimeUnit.MILLISECONDS, 3);
+        
+        for (int i = 0; i < 6; i++) {
+            wheel.run();
+        }
+        
+        assertEquals(List.of(3L, 2L, 1L), times);
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+    }
+    
+    @Test
+    void schedule_ticks() {
+        var future = wheel.schedule(context -> times.add(wheel.tick), 1, 2, 2);
+        
+        for (int i = 0; i < 6; i++) {
+            wheel.run();
+        }
+        
+        assertEquals(List.of(1L, 3L), times);
+        assertTrue(future.isDone());
+    }
+    
+    @Test
+    void schedule_infinite() {
+        var future = wheel.schedule(context -> times.add(context.times()), 50, 50, TimeUnit.MILLISECONDS);
+        
+        wheel.run();
+        assertTrue(times.isEmpty());
+        
+        for (int i = 0; i < 10; i++) {
+            wheel.run();
+        }
+        
+        assertEquals(10, times.size());
+        assertFalse(future.isDone());
+    }
+    
+    @Test
+    void schedule_rounds() {
+        wheel.schedule(context -> times.add(wheel.tick), 500, 50, TimeUnit.MILLISECONDS, 1);
+        
+        for (int i = 0; i < 12; i++) {
+            wheel.run();
+        }
+        
+        assertEquals(List.of(10L), times);
+    }
+    
+    @Test
+    void schedule_zero() {
+        Consumer<Context> consumer = mock(Consumer.class);
+        var future = wheel.schedule(consumer, 0, 50, TimeUnit.MILLISECONDS, 0);
+        
+        wheel.run();
+        
+        verifyNoInteractions(consumer);
+        assertTrue(future.isDone());
+    }
+    
+    @Test
+    void cancel_context() {
+        var future = wheel.schedule(context -> {
+            times.add(context.times());
+            context.cancel();
+        }, 0, 50, TimeUnit.MILLISECONDS);
+        
+        wheel.run();
+        wheel.run();
+        
+        assertEquals(List.of(Context.INFINITE), times);
+        assertTrue(future.isCancelled());
+    }
+    
+    @Test
+    void cancel_future() {
+        Consumer<Context> consumer = mock(Consumer.class);
+        wheel.schedule(consumer, 0, 50, TimeUnit.MILLISECONDS).cancel(false);
+        
+        wheel.run();
+        
+        verifyNoInteractions(consumer);
+    }
+    
+    @Test
+    void exception() {
+        var future = wheel.schedule(context -> { throw new IllegalStateException(); }, 0, 50, TimeUnit.MILLISECONDS);
+        
+        wheel.run();
+        
+        assertTrue(future.isDone());
+        assertEquals(IllegalStateException.class, assertThrows(ExecutionException.class, future::get).getCause().getClass());
+    }
+    
+    @Test
+    void getDelay() {
+        var future = wheel.schedule(context -> {}, 200, 50, TimeUnit.MILLISECONDS);
+        wheel.run();
+        
+        assertEquals(150, future.getDelay(TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    void compareTo() {
+        var first = wheel.schedule(context -> {}, 100, 50, TimeUnit.MILLISECONDS);
+        var second = wheel.schedule(context -> {}, 200, 50, TimeUnit.MILLISECONDS);
+        
+        assertTrue(first.compareTo(second) < 0);
+        assertEquals(0, first.compareTo(first));
+    }
+    
+}
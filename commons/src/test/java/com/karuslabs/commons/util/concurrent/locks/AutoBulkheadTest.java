@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoBulkheadTest {
+    
+    AutoBulkhead bulkhead = new AutoBulkhead(1);
+    AutoBulkhead adaptive = new AutoBulkhead(4, 2, 6, 1, TimeUnit.MILLISECONDS);
+    
+    @Test
+    void hold() throws InterruptedException {
+        try (var mutex = bulkhead.hold()) {
+            assertEquals(1, bulkhead.active());
+        }
+        
+        try (var mutex = bulkhead.holdInterruptibly()) {
+            assertEquals(0, bulkhead.availablePermits());
+        }
+        
+        assertEquals(0, bulkhead.active());
+    }
+    
+    @Test
+    void tryHold() {
+        var mutex = bulkhead.tryHold();
+        
+        assertNotNull(mutex);
+        assertNull(bulkhead.tryHold());
+        assertEquals(1, bulkhead.rejected());
+        
+        mutex.close();
+        assertNotNull(bulkhead.tryHold());
+    }
+    
+    @Test
+    void tryHold_timeout() throws InterruptedException {
+        var mutex = bulkhead.tryHold(1, TimeUnit.MILLISECONDS);
+        
+        assertNotNull(mutex);
+        assertNull(bulkhead.tryHold(1, TimeUnit.MILLISECONDS));
+        assertEquals(1, bulkhead.rejected());
+    }
+    
+    @Test
+    void adjust_decrease() {
+        adaptive.adjust(TimeUnit.MILLISECONDS.toNanos(2));
+        
+        assertEquals(3, adaptive.limit());
+        assertEquals(3, adaptive.availablePermits());
+        
+        adaptive.adjust(TimeUnit.MILLISECONDS.toNanos(2));
+        assertEquals(3, adaptive.limit());
+    }
+    
+    @Test
+    void adjust_min() {
+        for (int i = 0; i < 100; i++) {
+            adaptive.adjust(TimeUnit.MILLISECONDS.toNanos(2));
+        }
+        
+        assertEquals(2, adaptive.limit());
+    }
+    
+    @Test
+    void adjust_increase() {
+        for (int i = 0; i < 4; i++) {
+            adaptive.adjust(0);
+        }
+        
+        assertEquals(5, adaptive.limit());
+        assertEquals(5, adaptive.availablePermits());
+        
+        for (int i = 0; i < 100; i++) {
+            adaptive.adjust(0);
+        }
+        
+        assertEquals(6, adaptive.limit());
+    }
+    
+    @Test
+    void hold_adaptive() {
+        try (var mutex = adaptive.hold()) {
+            assertEquals(1, adaptive.active());
+        }
+        
+        assertEquals(0, adaptive.active());
+    }
+    
+    @Test
+    void constructor_throws_exception() {
+        assertEquals(
+            "Limits must satisfy 1 <= min <= limit <= max, was 0, 1, 2", 
+            assertThrows(IllegalArgumentException.class, () -> new AutoBulkhead(1, 0, 2, 1, TimeUnit.SECONDS)).getMessage()
+        );
+    }
+    
+}
@@ -25,7 +25,7 @@ package com.karuslabs.commons.util.concurrent.locks;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class AutoLockTest {
@@ -53,4 +53,20 @@ class AutoLockTest {
         assertEquals(0, lock.getHoldCount());
     }
     
+    @Test
+    void hold_metrics() throws InterruptedException {
+        var lock = new AutoLock(false, new LockMetrics("lock"));
+        
+        try (var mutex = lock.hold()) {
+            assertTrue(lock.isHeldByCurrentThread());
+        }
+        
+        try (var mutex = lock.holdInterruptibly()) {
+            assertTrue(lock.isHeldByCurrentThread());
+        }
+        
+        assertEquals(0, lock.getHoldCount());
+        assertEquals(2, lock.metrics().acquisitions());
+    }
+    
 }
@@ -113,4 +113,22 @@ class AutoReadWriteLockTest {
         verify(writer).isHeldByCurrentThread();
     }
     
+    @Test
+    void hold_metrics() throws InterruptedException {
+        var lock = new AutoReadWriteLock(false, new LockMetrics("reads"), new LockMetrics("writes"));
+        
+        try (var mutex = lock.readLock().hold()) {
+            assertEquals(1, lock.getReadLockCount());
+        }
+        
+        try (var mutex = lock.writeLock().holdInterruptibly()) {
+            assertTrue(lock.isWriteLockedByCurrentThread());
+        }
+        
+        assertEquals(0, lock.getReadLockCount());
+        assertFalse(lock.isWriteLocked());
+        assertEquals(1, lock.readLock().metrics().acquisitions());
+        assertEquals(1, lock.writeLock().metrics().acquisitions());
+    }
+    
 }
@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import com.karuslabs.commons.util.concurrent.locks.AutoStampedLock.AutoView;
+
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AutoStampedLockTest {
+    
+    AutoStampedLock lock = new AutoStampedLock();
+    Lock delegate = when(mock(Lock.class).toString()).thenReturn("delegate").getMock();
+    AutoView view = new AutoView(delegate);
+    
+    @Test
+    void read() {
+        assertEquals("value", lock.read(() -> "value"));
+        assertFalse(lock.isReadLocked());
+    }
+    
+    @Test
+    void read_fallback() {
+        Supplier<String> supplier = mock(Supplier.class);
+        when(supplier.get()).then(invocation -> {
+            if (!lock.isReadLocked()) {
+                lock.asWriteLock().lock();
+                lock.asWriteLock().unlock();
+            }
+            return "value";
+        });
+        
+        assertEquals("value", lock.read(supplier));
+        verify(supplier, times(2)).get();
+    }
+    
+    @Test
+    void read_fallback_exception() {
+        Supplier<String> supplier = mock(Supplier.class);
+        when(supplier.get()).then(invocation -> {
+            if (!lock.isReadLocked()) {
+                lock.asWriteLock().lock();
+                lock.asWriteLock().unlock();
+                throw new IndexOutOfBoundsException();
+            }
+            return "value";
+        });
+        
+        assertEquals("value", lock.read(supplier));
+    }
+    
+    @Test
+    void read_exception() {
+        assertThrows(IllegalStateException.class, () -> lock.read(() -> { throw new IllegalStateException(); }));
+        assertFalse(lock.isReadLocked());
+    }
+    
+    @Test
+    void write() {
+        assertEquals("value", lock.write(() -> {
+            assertTrue(lock.isWriteLocked());
+            return "value";
+        }));
+        assertFalse(lock.isWriteLocked());
+    }
+    
+    @Test
+    void hold_read() {
+        try (var mutex = lock.asReadLock().hold()) {
+            assertTrue(lock.isReadLocked());
+        }
+        
+        assertFalse(lock.isReadLocked());
+    }
+    
+    @Test
+    void hold_write() throws InterruptedException {
+        try (var mutex = lock.asWriteLock().holdInterruptibly()) {
+            assertTrue(lock.isWriteLocked());
+        }
+        
+        assertFalse(lock.isWriteLocked());
+    }
+    
+    @Test
+    void view() throws InterruptedException {
+        view.lock();
+        verify(delegate).lock();
+        
+        view.lockInterruptibly();
+        verify(delegate).lockInterruptibly();
+        
+        view.newCondition();
+        verify(delegate).newCondition();
+
+        view.tryLock();
+        verify(delegate).tryLock();
+        
+        view.tryLock(1, DAYS);
+        verify(delegate).tryLock(1, DAYS);
+        
+        view.unlock();
+        verify(delegate).unlock();
+        
+        assertEquals("delegate", view.toString());
+    }
+    
+}
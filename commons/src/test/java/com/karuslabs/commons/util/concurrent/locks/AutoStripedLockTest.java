@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoStripedLockTest {
+    
+    AutoStripedLock lock = new AutoStripedLock(16);
+    
+    @Test
+    void hold() {
+        try (var mutex = lock.hold("key")) {
+            assertTrue(lock.get("key").isHeldByCurrentThread());
+        }
+        
+        assertFalse(lock.get("key").isLocked());
+    }
+    
+    @Test
+    void holdInterruptibly() throws InterruptedException {
+        try (var mutex = lock.holdInterruptibly("key")) {
+            assertTrue(lock.get("key").isHeldByCurrentThread());
+        }
+        
+        assertFalse(lock.get("key").isLocked());
+    }
+    
+    @Test
+    void holdAll() {
+        try (var mutex = lock.holdAll("a", "b", "a")) {
+            assertTrue(lock.get("a").isHeldByCurrentThread());
+            assertTrue(lock.get("b").isHeldByCurrentThread());
+            assertEquals(1, lock.get("a").getHoldCount());
+        }
+        
+        assertFalse(lock.get("a").isLocked());
+        assertFalse(lock.get("b").isLocked());
+    }
+    
+    @Test
+    void fair() {
+        assertTrue(new AutoStripedLock(2, true).at(0).isFair());
+    }
+    
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockMetricsTest {
+    
+    LockMetrics metrics = new LockMetrics("lock");
+    ReentrantLock lock = new ReentrantLock();
+    
+    @Test
+    void hold() {
+        try (var mutex = metrics.hold(lock)) {
+            assertTrue(lock.isHeldByCurrentThread());
+        }
+        
+        assertFalse(lock.isLocked());
+        assertEquals(1, metrics.acquisitions());
+        assertEquals(1, metrics.held().count());
+        assertEquals(0, metrics.contended());
+    }
+    
+    @Test
+    void holdInterruptibly() throws InterruptedException {
+        try (var mutex = metrics.holdInterruptibly(lock)) {
+            assertTrue(lock.isHeldByCurrentThread());
+        }
+        
+        assertFalse(lock.isLocked());
+        assertEquals(1, metrics.acquisitions());
+    }
+    
+    @Test
+    void hold_contended() throws InterruptedException, ExecutionException {
+        var executor = Executors.newSingleThreadExecutor();
+        
+        lock.lock();
+        var future = executor.submit(() -> {
+            try (var mutex = metrics.hold(lock)) {}
+        });
+        
+        while (!lock.hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+        lock.unlock();
+        
+        future.get();
+        executor.shutdown();
+        
+        assertEquals(1, metrics.contended());
+    }
+    
+    @Test
+    void hold_fair() throws InterruptedException, ExecutionException {
+        var executor = Executors.newFixedThreadPool(2);
+        var lock = new ReentrantReadWriteLock(true);
+        
+        lock.readLock().lock();
+        var writer = executor.submit(() -> {
+            lock.writeLock().lock();
+            lock.writeLock().unlock();
+        });
+        
+        while (lock.getQueueLength() < 1) {
+            Thread.onSpinWait();
+        }
+        
+        var reader = executor.submit(() -> {
+            try (var mutex = metrics.hold(lock.readLock())) {}
+        });
+        
+        while (lock.getQueueLength() < 2) {
+            Thread.onSpinWait();
+        }
+        lock.readLock().unlock();
+        
+        writer.get();
+        reader.get();
+        executor.shutdown();
+        
+        assertEquals(1, metrics.contended());
+    }
+    
+    @Test
+    void hold_interrupted() {
+        Thread.currentThread().interrupt();
+        try (var mutex = metrics.hold(lock)) {
+            assertTrue(lock.isHeldByCurrentThread());
+        }
+        
+        assertTrue(Thread.interrupted());
+    }
+    
+    @Test
+    void holders() {
+        for (int i = 0; i < LockMetrics.HOLDERS + 2; i++) {
+            metrics.release(0, i, false);
+        }
+        
+        var holders = metrics.holders();
+        
+        assertEquals(LockMetrics.HOLDERS, holders.size());
+        assertEquals(LockMetrics.HOLDERS + 1, holders.get(0).time(TimeUnit.NANOSECONDS));
+        assertEquals(2, holders.get(LockMetrics.HOLDERS - 1).time(TimeUnit.NANOSECONDS));
+        assertEquals(Thread.currentThread().getName(), holders.get(0).thread());
+        assertEquals(LockMetricsTest.class.getName(), holders.get(0).site().getClassName());
+    }
+    
+    @Test
+    void name() {
+        assertEquals("lock", metrics.name());
+    }
+    
+}
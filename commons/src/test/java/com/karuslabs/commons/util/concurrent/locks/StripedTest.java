@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StripedTest {
+    
+    Striped<AutoReadWriteLock> striped = Striped.readWriteLocks(3);
+    
+    @Test
+    void size() {
+        assertEquals(4, striped.size());
+        assertEquals(2, Striped.stampedLocks(1).size());
+    }
+    
+    @Test
+    void get() {
+        assertSame(striped.get("key"), striped.get("key"));
+        assertSame(striped.at(striped.index("key")), striped.get("key"));
+    }
+    
+    @Test
+    void index() {
+        var counts = new int[striped.size()];
+        for (int i = 0; i < 1000; i++) {
+            counts[striped.index(i)]++;
+        }
+        
+        for (var count : counts) {
+            assertTrue(count > 0);
+        }
+    }
+    
+    @Test
+    void holdAll() {
+        try (var mutex = striped.holdAll(AutoReadWriteLock::writeLock, 1, 2, 1)) {
+            assertTrue(striped.get(1).isWriteLockedByCurrentThread());
+            assertTrue(striped.get(2).isWriteLockedByCurrentThread());
+            assertEquals(1, striped.get(1).getWriteHoldCount());
+        }
+        
+        assertFalse(striped.get(1).isWriteLocked());
+        assertFalse(striped.get(2).isWriteLocked());
+    }
+    
+    @Test
+    void holdAll_order() {
+        var order = new ArrayList<Integer>();
+        var striped = new Striped<Holdable>(4, () -> null) {
+            @Override
+            public Holdable at(int index) {
+                return new Holdable() {
+                    @Override
+                    public Mutex hold() {
+                        order.add(index);
+                        return () -> {};
+                    }
+                    
+                    @Override
+                    public Mutex holdInterruptibly() {
+                        return hold();
+                    }
+                };
+            }
+        };
+        
+        striped.holdAll(lock -> lock, 1, 2, 3, 4, 5, 6, 7, 8);
+        
+        var sorted = new ArrayList<>(order);
+        Collections.sort(sorted);
+        assertEquals(sorted, order);
+        assertEquals(new HashSet<>(order).size(), order.size());
+    }
+    
+    @Test
+    void holdAll_exception() {
+        var stripes = new Striped<>(2, AutoLock::new);
+        var first = stripes.at(0);
+        
+        assertThrows(IllegalStateException.class, () -> stripes.holdAll(lock -> {
+            if (lock != first) {
+                throw new IllegalStateException();
+            }
+            return lock;
+        }, 0, 1, 2, 3, 4, 5));
+        
+        assertFalse(first.isLocked());
+    }
+    
+}